@@ -0,0 +1,116 @@
+package com.company.university;
+
+import com.company.university.lecture.dto.CreateLectureRequest;
+import com.company.university.lecture.dto.CreateLecturesRequest;
+import com.company.university.lecture.service.LectureService;
+import com.company.university.student.dto.CreateStudentRequest;
+import com.company.university.student.dto.CreateStudentsRequest;
+import com.company.university.student.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Rows per second through the bulk create endpoints' services, against the single-row create they replace.
+ * Every call is one full request: validation, JDBC batches and the outbox, in one transaction.
+ * <p>
+ * Needs a PostgreSQL the application can reach through {@code POSTGRES_DB}, {@code POSTGRES_USER} and
+ * {@code POSTGRES_PASSWORD}. Use a throwaway database: it is migrated and keeps every row inserted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int SINGLE_ROWS = 1_000;
+    private static final LocalDateTime FIRST_LECTURE = LocalDateTime.of(2100, 1, 4, 8, 0);
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private LectureService lectureService;
+    private String run;
+    private Long lecturerId;
+    private long students;
+    private long lectures;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UniversityApplication.class).run(
+                "--server.port=0",
+                "--jwt.secret=benchmark-secret-key-that-is-at-least-256-bits-long",
+                "--logging.level.root=WARN");
+        run = Long.toString(System.currentTimeMillis(), 36);
+        studentService = context.getBean(StudentService.class);
+        lectureService = context.getBean(LectureService.class);
+        lecturerId = context.getBean(JdbcTemplate.class).queryForObject("""
+                INSERT INTO lecturer (name, surname, email, version)
+                VALUES ('Benchmark', 'Lecturer', NULL, 0)
+                RETURNING id
+                """, Long.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object createStudents() {
+        return studentService.createStudents(new CreateStudentsRequest(nextStudents(BATCH_SIZE)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SINGLE_ROWS)
+    public void createStudentOneByOne() {
+        nextStudents(SINGLE_ROWS).forEach(studentService::createStudent);
+    }
+
+    /**
+     * One lecture an hour for this run's lecturer, in 100 rooms of its own, continuing after the previous call,
+     * so no import is rejected by the overlap constraints.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object createLectures() {
+        long first = lectures;
+        lectures += BATCH_SIZE;
+        List<CreateLectureRequest> batch = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> {
+                    LocalDateTime start = FIRST_LECTURE.plusHours(first + i);
+                    return CreateLectureRequest.builder()
+                            .title("Benchmark")
+                            .roomNumber(run + "-" + (first + i) % 100)
+                            .lecturerId(lecturerId)
+                            .startDateTime(start)
+                            .endDateTime(start.plusMinutes(50))
+                            .build();
+                })
+                .toList();
+        return lectureService.createLectures(new CreateLecturesRequest(batch));
+    }
+
+    private List<CreateStudentRequest> nextStudents(int count) {
+        long first = students;
+        students += count;
+        return IntStream.range(0, count)
+                .mapToObj(i -> CreateStudentRequest.builder()
+                        .name("Benchmark")
+                        .surname("Student")
+                        .email("benchmark-" + run + "-" + (first + i) + "@uni.pl")
+                        .dateOfBirth(LocalDate.of(2000, 1, 1))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.company.university.config;
+
+import com.company.university.UniversityApplication;
+import com.company.university.security.jwt.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Runs the application with Tomcat on its default 200 platform threads or on one virtual thread per request, and
+ * measures how many real, database-bound requests it serves while {@code clients} of them are in flight at once.
+ * Requests go over HTTP through the full filter chain, JWT authentication, controller, service and Hikari.
+ * <p>
+ * Needs a PostgreSQL the application can reach through {@code POSTGRES_DB}, {@code POSTGRES_USER} and
+ * {@code POSTGRES_PASSWORD}. Use a throwaway database: it is migrated and seeded with {@value #LECTURERS} lecturers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(BlockingRequestBenchmark.REQUESTS)
+public class BlockingRequestBenchmark {
+
+    static final int REQUESTS = 2_000;
+    private static final int LECTURERS = 100;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String mode;
+
+    @Param({"10", "50"})
+    private int poolSize;
+
+    @Param({"200"})
+    private int clients;
+
+    @Param({"/api/lecturers/page?page=0&size=20"})
+    private String endpoint;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ExecutorService clientThreads;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UniversityApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + mode.equals("VIRTUAL"),
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                "--jwt.secret=benchmark-secret-key-that-is-at-least-256-bits-long",
+                "--jwt.expiration-ms=86400000",
+                "--jwt.authentication-mode=CLAIMS",
+                "--query-budget.mode=WARN",
+                "--logging.level.root=WARN");
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO lecturer (name, surname, email, version)
+                SELECT 'Benchmark', 'Lecturer' || i, 'benchmark' || i || '@uni.pl', 0
+                FROM generate_series((SELECT count(*) FROM lecturer) + 1, ?) AS i
+                """, LECTURERS);
+
+        String token = context.getBean(JwtService.class).generateToken("benchmark", Set.of("ROLE_USER"));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientThreads.shutdownNow();
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public void handleRequests() throws Exception {
+        Semaphore inFlight = new Semaphore(clients);
+        List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            responses.add(clientThreads.submit(() -> {
+                try {
+                    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+        for (Future<Integer> response : responses) {
+            int status = response.get();
+            if (status != 200) {
+                throw new IllegalStateException(endpoint + " answered " + status);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.university.lecture.application;
+
+import com.company.university.lecture.domain.Lecture;
+import com.company.university.lecture.dto.FindLectureResponse;
+import com.company.university.lecturer.domain.Lecturer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LectureMapperBenchmark {
+
+    private Lecture lecture;
+
+    @Setup
+    public void setUp() {
+        lecture = Lecture.builder()
+                .id(1L)
+                .title("Math")
+                .description("Algebra")
+                .roomNumber("101")
+                .startDateTime(LocalDateTime.of(2025, 11, 24, 9, 0))
+                .endDateTime(LocalDateTime.of(2025, 11, 24, 10, 0))
+                .lecturer(Lecturer.builder().id(1L).name("John").surname("Doe").build())
+                .build();
+    }
+
+    @Benchmark
+    public FindLectureResponse findLectureResponse() {
+        return LectureMapper.findLectureResponse(lecture);
+    }
+}
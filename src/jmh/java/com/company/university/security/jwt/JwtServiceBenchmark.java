@@ -0,0 +1,87 @@
+package com.company.university.security.jwt;
+
+import com.company.university.security.config.JwtConfigurationProperties;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code *CacheHit} benchmarks ask for the same token over and over, so after the first call they only time the
+ * claims cache lookup. {@code *CacheMiss} benchmarks cycle through {@value #DISTINCT_TOKENS} distinct tokens against
+ * a service that caches one token at most, so every call verifies the signature and parses the token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final int DISTINCT_TOKENS = 1_024;
+
+    private JwtService jwtService;
+    private String token;
+
+    private JwtService uncachedJwtService;
+    private String[] usernames;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(properties(10_000), new SimpleMeterRegistry());
+        token = jwtService.generateToken("john", Set.of("ROLE_USER", "ROLE_ADMIN"));
+
+        uncachedJwtService = new JwtService(properties(1), new SimpleMeterRegistry());
+        usernames = new String[DISTINCT_TOKENS];
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            usernames[i] = "user" + i;
+            tokens[i] = uncachedJwtService.generateToken(usernames[i], Set.of("ROLE_USER"));
+        }
+    }
+
+    private static JwtConfigurationProperties properties(long cacheMaxSize) {
+        JwtConfigurationProperties properties = new JwtConfigurationProperties();
+        properties.setSecret("benchmark-secret-key-that-is-at-least-256-bits-long");
+        properties.setIssuer("benchmark");
+        properties.setExpirationMs(3_600_000);
+        properties.setCacheMaxSize(cacheMaxSize);
+        return properties;
+    }
+
+    private int nextToken() {
+        next = (next + 1) % DISTINCT_TOKENS;
+        return next;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("john", Set.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public Claims extractAllClaimsCacheHit() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCacheHit() {
+        return jwtService.isTokenValid(token, "john");
+    }
+
+    @Benchmark
+    public Claims extractAllClaimsCacheMiss() {
+        return uncachedJwtService.extractAllClaims(tokens[nextToken()]);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCacheMiss() {
+        int i = nextToken();
+        return uncachedJwtService.isTokenValid(tokens[i], usernames[i]);
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.university.student.application;
+
+import com.company.university.lecture.domain.Lecture;
+import com.company.university.student.domain.Student;
+import com.company.university.student.dto.FindStudentWithLecturesResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentMapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int lectures;
+
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        student = Student.builder()
+                .id(1L)
+                .name("John")
+                .surname("Doe")
+                .email("john.doe@university.com")
+                .build();
+
+        LocalDateTime start = LocalDateTime.of(2025, 11, 24, 8, 0);
+        for (long i = 0; i < lectures; i++) {
+            student.addLecture(Lecture.builder()
+                    .id(i)
+                    .title("Lecture " + i)
+                    .description("Description " + i)
+                    .roomNumber("10" + i)
+                    .startDateTime(start.plusHours(i))
+                    .endDateTime(start.plusHours(i + 1))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public FindStudentWithLecturesResponse toFindStudentWithLecturesResponse() {
+        return StudentMapper.toFindStudentWithLecturesResponse(student);
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.university.student.application;
+
+import com.company.university.metrics.ValidationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentValidatorBenchmark {
+
+    @Param({"id", "surname"})
+    private String sortBy;
+
+    private StudentValidator validator;
+
+    @Setup
+    public void setUp() {
+        validator = new StudentValidator(null, new ValidationMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public void validatePaginationAndSorting(Blackhole blackhole) {
+        validator.validatePaginationAndSorting(3, 20, sortBy, "DESC");
+        blackhole.consume(validator);
+    }
+}
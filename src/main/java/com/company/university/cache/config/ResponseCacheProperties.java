@@ -0,0 +1,16 @@
+package com.company.university.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private long maxSize = 10_000;
+    private long ttlMs = 60_000;
+}
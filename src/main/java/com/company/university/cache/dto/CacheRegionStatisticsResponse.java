@@ -0,0 +1,9 @@
+package com.company.university.cache.dto;
+
+public record CacheRegionStatisticsResponse(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long size
+) { }
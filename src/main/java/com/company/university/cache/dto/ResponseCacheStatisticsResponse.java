@@ -0,0 +1,11 @@
+package com.company.university.cache.dto;
+
+public record ResponseCacheStatisticsResponse(
+        String cache,
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions,
+        long size
+) {
+}
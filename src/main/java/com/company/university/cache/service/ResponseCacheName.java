@@ -0,0 +1,7 @@
+package com.company.university.cache.service;
+
+public enum ResponseCacheName {
+    STUDENT,
+    LECTURE,
+    LECTURER
+}
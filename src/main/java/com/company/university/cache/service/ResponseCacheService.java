@@ -0,0 +1,98 @@
+package com.company.university.cache.service;
+
+import com.company.university.cache.config.ResponseCacheProperties;
+import com.company.university.cache.dto.ResponseCacheStatisticsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the single-entity GET responses, keyed by entity id.
+ * Writers evict the ids they touched; evictions run after the surrounding transaction commits,
+ * so a concurrent read cannot put the pre-commit state back.
+ */
+@Service
+public class ResponseCacheService implements MeterBinder {
+
+    private final ResponseCacheProperties properties;
+    private final Map<ResponseCacheName, Cache<Long, Object>> caches = new EnumMap<>(ResponseCacheName.class);
+
+    public ResponseCacheService(ResponseCacheProperties properties) {
+        this.properties = properties;
+        for (ResponseCacheName name : ResponseCacheName.values()) {
+            caches.put(name, Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxSize())
+                    .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, "response-" + name.name().toLowerCase()));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ResponseCacheName name, Long id, Function<Long, T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(id);
+        }
+        return (T) caches.get(name).get(id, loader);
+    }
+
+    public void evict(ResponseCacheName name, Long id) {
+        afterCommit(() -> caches.get(name).invalidate(id));
+    }
+
+    public void evict(ResponseCacheName name, Collection<Long> ids) {
+        List<Long> copy = List.copyOf(ids);
+        afterCommit(() -> caches.get(name).invalidateAll(copy));
+    }
+
+    public void evictAll(ResponseCacheName name) {
+        afterCommit(() -> caches.get(name).invalidateAll());
+    }
+
+    public List<ResponseCacheStatisticsResponse> getStatistics() {
+        return caches.entrySet().stream()
+                .map(entry -> {
+                    CacheStats stats = entry.getValue().stats();
+                    return new ResponseCacheStatisticsResponse(
+                            entry.getKey().name(),
+                            stats.hitCount(),
+                            stats.missCount(),
+                            stats.hitRate(),
+                            stats.evictionCount(),
+                            entry.getValue().estimatedSize()
+                    );
+                })
+                .toList();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
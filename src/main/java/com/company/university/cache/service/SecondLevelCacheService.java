@@ -0,0 +1,85 @@
+package com.company.university.cache.service;
+
+import com.company.university.cache.dto.CacheRegionStatisticsResponse;
+import com.company.university.lecture.domain.Lecture;
+import com.company.university.student.domain.Student;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts second-level cache entries for writes Hibernate cannot track itself (JDBC enrollment writes,
+ * seat counters, database cascades) and reports per-region hit/miss statistics.
+ * Evictions run after the surrounding transaction commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheService {
+
+    public static final String STUDENT_LECTURES_ROLE = Student.class.getName() + ".lectures";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictStudentLectures(Collection<Long> studentIds) {
+        List<Long> ids = List.copyOf(studentIds);
+        afterCommit(() -> ids.forEach(id -> cache().evictCollectionData(STUDENT_LECTURES_ROLE, id)));
+    }
+
+    public void evictLectures(Collection<Long> lectureIds) {
+        List<Long> ids = List.copyOf(lectureIds);
+        afterCommit(() -> ids.forEach(id -> cache().evictEntityData(Lecture.class, id)));
+    }
+
+    public void evictAllStudentLectures() {
+        afterCommit(() -> cache().evictCollectionData(STUDENT_LECTURES_ROLE));
+    }
+
+    public List<CacheRegionStatisticsResponse> getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                    return new CacheRegionStatisticsResponse(
+                            region,
+                            regionStatistics.getHitCount(),
+                            regionStatistics.getMissCount(),
+                            regionStatistics.getPutCount(),
+                            regionStatistics.getElementCountInMemory()
+                    );
+                })
+                .toList();
+    }
+
+    private Cache cache() {
+        return sessionFactory().getCache();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
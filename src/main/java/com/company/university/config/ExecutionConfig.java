@@ -0,0 +1,16 @@
+package com.company.university.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Async} and {@code @Scheduled} methods. With {@code spring.threads.virtual.enabled=true}
+ * Spring Boot runs them, as well as every Tomcat request, on virtual threads; otherwise on the default
+ * platform thread pools.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfig {
+}
@@ -0,0 +1,46 @@
+package com.company.university.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers which users mutated something recently, so their reads stay on the primary until the replica
+ * has certainly caught up. Keyed by the authenticated user name; anonymous requests are not tracked.
+ * The window is local to this instance.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int MAX_TRACKED_USERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_USERS)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite() {
+        currentUser().ifPresent(user -> recentWriters.put(user, Boolean.TRUE));
+    }
+
+    public boolean isRecentWriter() {
+        return currentUser().map(user -> recentWriters.getIfPresent(user) != null).orElse(false);
+    }
+
+    private Optional<String> currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.university.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-only transactions may run on a lagging replica, so their sessions read the second-level cache but never
+ * put into it. Otherwise a replica read right after a commit would cache the pre-commit state until the next write.
+ */
+public class ReplicaAwareJpaTransactionManager extends JpaTransactionManager {
+
+    /**
+     * Set as an entity manager property rather than a session cache mode, {@code find} re-reads it for every load.
+     */
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly()) {
+            EntityManagerHolder holder =
+                    (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+            if (holder != null) {
+                holder.getEntityManager().setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+            }
+        }
+    }
+}
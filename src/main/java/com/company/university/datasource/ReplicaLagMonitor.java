@@ -0,0 +1,82 @@
+package com.company.university.datasource;
+
+import com.company.university.datasource.config.ReadReplicaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls the replica for its replay lag. The replica counts as usable only while it is in recovery
+ * and no further behind than {@code datasource.replica.max-lag-ms}; a failed probe makes it unusable
+ * until the next successful one.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String REPLICA_LAG = "university.datasource.replica.lag";
+
+    /**
+     * Lag is zero while everything received has been replayed, so an idle primary does not look like a lagging replica.
+     * After a restart the receiver resumes from the start of a segment, i.e. behind what was already replayed.
+     */
+    private static final String REPLAY_LAG_MS = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN NULL
+                       WHEN pg_last_wal_receive_lsn() <= pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final ReadReplicaProperties properties;
+    private volatile double lagMs = Double.NaN;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replica, ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.properties = properties;
+        Gauge.builder(REPLICA_LAG, this, monitor -> monitor.lagMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try {
+            Double lag = replica.queryForObject(REPLAY_LAG_MS, Double.class);
+            if (lag == null) {
+                log.warn("Replica is not in recovery, routing reads to the primary");
+                update(Double.NaN, false);
+                return;
+            }
+            update(lag, lag <= properties.getMaxLagMs());
+        } catch (DataAccessException e) {
+            log.warn("Replica lag check failed, routing reads to the primary: {}", e.getMessage());
+            update(Double.NaN, false);
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful check, e.g. after it refused a connection.
+     */
+    public void markUnavailable() {
+        available = false;
+    }
+
+    private void update(double lag, boolean usable) {
+        if (usable != available) {
+            log.info("Replica {} (lag {} ms)", usable ? "back in rotation" : "out of rotation", lag);
+        }
+        lagMs = lag;
+        available = usable;
+    }
+}
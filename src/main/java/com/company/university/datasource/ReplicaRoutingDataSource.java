@@ -0,0 +1,57 @@
+package com.company.university.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection source for read-only transactions: the replica while it is caught up, otherwise the primary.
+ * The primary also serves users inside their read-your-writes window, and any read the replica pool
+ * cannot take right now.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    static final String ROUTED_CONNECTIONS = "university.datasource.routing";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!lagMonitor.isAvailable()) {
+            return primary("replica-unavailable");
+        }
+        if (readYourWrites.isRecentWriter()) {
+            return primary("read-your-writes");
+        }
+        try {
+            Connection connection = replica.getConnection();
+            meterRegistry.counter(ROUTED_CONNECTIONS, "target", "replica", "reason", "read-only").increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Replica connection failed, routing reads to the primary: {}", e.getMessage());
+            lagMonitor.markUnavailable();
+            return primary("replica-error");
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Replica routing uses the credentials of the configured pools");
+    }
+
+    private Connection primary(String reason) throws SQLException {
+        meterRegistry.counter(ROUTED_CONNECTIONS, "target", "primary", "reason", reason).increment();
+        return primary.getConnection();
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.university.datasource.config;
+
+import com.company.university.datasource.ReadYourWritesFilter;
+import com.company.university.datasource.ReadYourWritesTracker;
+import com.company.university.datasource.ReplicaAwareJpaTransactionManager;
+import com.company.university.datasource.ReplicaLagMonitor;
+import com.company.university.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Splits reads from writes when {@code datasource.replica.enabled=true}. The application {@link DataSource} becomes
+ * a {@link LazyConnectionDataSourceProxy} that only picks a pool at the first statement: transactions marked
+ * {@code readOnly} get their connection from {@link ReplicaRoutingDataSource}, everything else from the primary.
+ * Flyway keeps migrating through {@code spring.flyway.url}.
+ * <p>
+ * Responses that end up in a cache are loaded in read-write transactions, so they always come from the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               ReadReplicaProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, properties, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(Duration.ofMillis(properties.getReadYourWritesWindowMs()));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker tracker) {
+        return new ReadYourWritesFilter(tracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWrites, meterRegistry));
+        return proxy;
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new ReplicaAwareJpaTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
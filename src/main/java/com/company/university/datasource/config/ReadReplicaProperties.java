@@ -0,0 +1,29 @@
+package com.company.university.datasource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+    /** Sends read-only transactions to the replica; when off every transaction uses {@code spring.datasource}. */
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    /** Kept short so an unreachable replica falls back to the primary quickly. */
+    private long connectionTimeoutMs = 1_000;
+    /** Replay lag above which reads go back to the primary. */
+    private long maxLagMs = 1_000;
+    private long lagCheckIntervalMs = 1_000;
+    /**
+     * How long a user's reads stay on the primary after one of their own mutations.
+     * Must be longer than {@link #maxLagMs} plus {@link #lagCheckIntervalMs} to guarantee they see their writes.
+     */
+    private long readYourWritesWindowMs = 5_000;
+}
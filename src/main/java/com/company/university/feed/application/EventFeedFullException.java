@@ -0,0 +1,7 @@
+package com.company.university.feed.application;
+
+public class EventFeedFullException extends RuntimeException {
+    public EventFeedFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,105 @@
+package com.company.university.feed.application;
+
+import com.company.university.outbox.domain.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One open event stream. Runs on its own virtual thread, which parks in {@link EventReplayBuffer#read} while the
+ * stream is idle, and copies events from the shared buffer to the client from its own position.
+ * <p>
+ * A subscriber that falls behind by more than the buffer holds is sent a {@value #RESYNC_EVENT} event and
+ * continues with the newest events; the client is expected to reload its state.
+ */
+@Slf4j
+public class EventFeedSubscriber implements Runnable {
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final EventReplayBuffer buffer;
+    private final Duration heartbeatInterval;
+    private final Runnable onResync;
+    private final Consumer<EventFeedSubscriber> onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread worker;
+    private long position;
+
+    public EventFeedSubscriber(SseEmitter emitter, EventReplayBuffer buffer, long position, Duration heartbeatInterval,
+                               Runnable onResync, Consumer<EventFeedSubscriber> onClose) {
+        this.emitter = emitter;
+        this.buffer = buffer;
+        this.position = position;
+        this.heartbeatInterval = heartbeatInterval;
+        this.onResync = onResync;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void run() {
+        worker = Thread.currentThread();
+        try {
+            if (position == EventReplayBuffer.RESYNC) {
+                resync(buffer.head());
+            }
+            while (!closed.get()) {
+                EventReplayBuffer.Read read = buffer.read(position, heartbeatInterval);
+                if (read.overrun()) {
+                    resync(read.next());
+                } else if (read.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    send(read);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream closed by the client: {}", e.getMessage());
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Ends the stream. Safe to call from any thread and more than once, e.g. from the emitter's completion,
+     * timeout and error callbacks as well as from the worker itself.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        onClose.accept(this);
+        Thread thread = worker;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+        try {
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("Event stream already completed: {}", e.getMessage());
+        }
+    }
+
+    private void send(EventReplayBuffer.Read read) throws IOException {
+        for (DomainEvent event : read.events()) {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.id()))
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+        position = read.next();
+    }
+
+    private void resync(long next) throws IOException {
+        onResync.run();
+        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}"));
+        position = next;
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.university.feed.application;
+
+import com.company.university.feed.domain.EventLogRepository;
+import com.company.university.outbox.application.DomainEventSink;
+import com.company.university.outbox.domain.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Copies every relayed batch into the shared event log within the relay transaction, so each instance's feed
+ * sees the events relayed by all instances. Relays still claim in parallel but take turns writing the log.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLogSink implements DomainEventSink {
+
+    private final EventLogRepository eventLogRepository;
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        eventLogRepository.appendAll(events);
+    }
+}
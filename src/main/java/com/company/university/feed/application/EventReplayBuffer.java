@@ -0,0 +1,163 @@
+package com.company.university.feed.application;
+
+import com.company.university.outbox.domain.DomainEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring of the most recent events in arrival order, shared by all feed subscribers. Each subscriber reads from its
+ * own position, so appending costs the same however many subscribers there are. Positions count every event
+ * ever appended; the ring holds the last {@code capacity} of them.
+ * <p>
+ * Guarded by a {@link ReentrantLock} rather than {@code synchronized}, waiting subscribers run on virtual threads.
+ */
+public class EventReplayBuffer {
+
+    /** Returned by {@link #resumePosition} when events after the requested one may already have been dropped. */
+    public static final long RESYNC = -1;
+
+    private final DomainEvent[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long head;
+    private long floor;
+    private long maxDroppedId = Long.MIN_VALUE;
+
+    public EventReplayBuffer(int capacity) {
+        this.ring = new DomainEvent[capacity];
+    }
+
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (DomainEvent event : events) {
+                int slot = (int) (head % ring.length);
+                if (ring[slot] != null) {
+                    maxDroppedId = Math.max(maxDroppedId, ring[slot].id());
+                }
+                ring[slot] = event;
+                head++;
+            }
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the events up to {@code lastSkippedId} were never offered to the buffer, so resumes from
+     * older ids are told to resync. Streams are not affected, they only wait for events appended from now on.
+     */
+    public void startAfter(long lastSkippedId) {
+        lock.lock();
+        try {
+            maxDroppedId = Math.max(maxDroppedId, lastSkippedId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the events up to {@code lastLostId} never reached the buffer. Every open stream and every
+     * resume from an older id is told to resync: the lost events take up one empty position, and everything
+     * before it is no longer readable.
+     */
+    public void markLost(long lastLostId) {
+        lock.lock();
+        try {
+            int slot = (int) (head % ring.length);
+            if (ring[slot] != null) {
+                maxDroppedId = Math.max(maxDroppedId, ring[slot].id());
+            }
+            ring[slot] = null;
+            head++;
+            floor = head;
+            maxDroppedId = Math.max(maxDroppedId, lastLostId);
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Position to stream from for a subscriber that last saw {@code lastEventId}: right after that event if it is
+     * still held, otherwise the first held event with a larger id, unless a larger id was already dropped.
+     */
+    public long resumePosition(long lastEventId) {
+        lock.lock();
+        try {
+            long tail = tail();
+            for (long position = head - 1; position >= tail; position--) {
+                if (eventAt(position).id() == lastEventId) {
+                    return position + 1;
+                }
+            }
+            if (lastEventId < maxDroppedId) {
+                return RESYNC;
+            }
+            for (long position = tail; position < head; position++) {
+                if (eventAt(position).id() > lastEventId) {
+                    return position;
+                }
+            }
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long head() {
+        lock.lock();
+        try {
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for events at or after {@code position}. An empty read means the wait timed out;
+     * an overrun read means the subscriber fell so far behind that some of its events were dropped.
+     */
+    public Read read(long position, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (position >= head && nanos > 0) {
+                nanos = appended.awaitNanos(nanos);
+            }
+            if (position < tail()) {
+                return new Read(List.of(), head, true);
+            }
+            List<DomainEvent> events = new ArrayList<>((int) (head - position));
+            for (long p = position; p < head; p++) {
+                events.add(eventAt(p));
+            }
+            return new Read(events, head, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long tail() {
+        return Math.max(floor, head - ring.length);
+    }
+
+    private DomainEvent eventAt(long position) {
+        return ring[(int) (position % ring.length)];
+    }
+
+    public record Read(List<DomainEvent> events, long next, boolean overrun) {
+
+        public boolean isEmpty() {
+            return events.isEmpty() && !overrun;
+        }
+    }
+}
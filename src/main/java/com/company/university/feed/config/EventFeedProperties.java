@@ -0,0 +1,25 @@
+package com.company.university.feed.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "event-feed")
+@Getter
+@Setter
+public class EventFeedProperties {
+    /**
+     * Events kept for {@code Last-Event-ID} resumes. A subscriber that falls further behind is told to resync.
+     */
+    private int replayBufferSize = 10_000;
+    private int maxSubscribers = 1_000;
+    /** Comment sent on idle streams, so proxies keep them open and dead clients are noticed. */
+    private long heartbeatIntervalMs = 15_000;
+    /** Streams are closed after this long, the client reconnects with its {@code Last-Event-ID}. */
+    private long streamTimeoutMs = 1_800_000;
+    private long reconnectDelayMs = 3_000;
+    /** How long relayed events stay in the shared event log, must be far longer than any instance's poll gap. */
+    private long logRetentionMs = 600_000;
+}
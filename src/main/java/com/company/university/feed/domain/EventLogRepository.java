@@ -0,0 +1,101 @@
+package com.company.university.feed.domain;
+
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.domain.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The shared log the event feed tails. Events read back from it carry their log {@code seq} as id, which
+ * increases in commit order and is the same on every instance.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventLogRepository {
+
+    /**
+     * Held until the relay transaction commits, so batches of concurrent relays are logged one after the other.
+     */
+    private static final String LOCK_LOG = "SELECT pg_advisory_xact_lock(hashtext('domain_event_log'))";
+
+    private static final String APPEND_EVENTS = """
+            INSERT INTO domain_event_log (event_id, type, lecture_id, student_id, payload, occurred_at)
+            SELECT e.event_id, e.type, e.lecture_id, e.student_id, e.payload, e.occurred_at
+            FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[], ?::jsonb[], ?::timestamp[])
+                     WITH ORDINALITY AS e(event_id, type, lecture_id, student_id, payload, occurred_at, n)
+            ORDER BY e.n
+            """;
+
+    private static final String FIND_AFTER = """
+            SELECT seq, type, lecture_id, student_id, payload::text AS payload, occurred_at
+            FROM domain_event_log
+            WHERE seq > ?
+            ORDER BY seq
+            LIMIT ?
+            """;
+
+    private static final String LAST_SEQ = "SELECT COALESCE(max(seq), 0) FROM domain_event_log";
+
+    private static final String FIRST_SEQ = "SELECT min(seq) FROM domain_event_log";
+
+    /**
+     * Keeps the newest row however old, so {@link #lastSeq} is never reset to zero by an empty log.
+     */
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM domain_event_log
+            WHERE logged_at < LOCALTIMESTAMP - ? * INTERVAL '1 millisecond'
+              AND seq < (SELECT max(seq) FROM domain_event_log)
+            """;
+
+    private static final RowMapper<DomainEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new DomainEvent(
+            rs.getLong("seq"),
+            DomainEventType.valueOf(rs.getString("type")),
+            rs.getLong("lecture_id"),
+            rs.getObject("student_id", Long.class),
+            rs.getString("payload"),
+            rs.getObject("occurred_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Logs the events in the given order. Must run in the relay transaction, the rows become visible when it commits.
+     */
+    public void appendAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute(LOCK_LOG);
+        jdbcTemplate.update(APPEND_EVENTS,
+                events.stream().map(DomainEvent::id).toArray(Long[]::new),
+                events.stream().map(event -> event.type().name()).toArray(String[]::new),
+                events.stream().map(DomainEvent::lectureId).toArray(Long[]::new),
+                events.stream().map(DomainEvent::studentId).toArray(Long[]::new),
+                events.stream().map(DomainEvent::payload).toArray(String[]::new),
+                events.stream().map(event -> event.occurredAt().toString()).toArray(String[]::new));
+    }
+
+    public List<DomainEvent> findAfter(long seq, int limit) {
+        return jdbcTemplate.query(FIND_AFTER, EVENT_ROW_MAPPER, seq, limit);
+    }
+
+    public long lastSeq() {
+        Long seq = jdbcTemplate.queryForObject(LAST_SEQ, Long.class);
+        return seq != null ? seq : 0;
+    }
+
+    /**
+     * Oldest seq still logged, {@code null} when the log is empty.
+     */
+    public Long firstSeq() {
+        return jdbcTemplate.queryForObject(FIRST_SEQ, Long.class);
+    }
+
+    public int deleteLoggedBefore(long retentionMs) {
+        return jdbcTemplate.update(DELETE_EXPIRED, retentionMs);
+    }
+}
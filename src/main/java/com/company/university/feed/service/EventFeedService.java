@@ -0,0 +1,160 @@
+package com.company.university.feed.service;
+
+import com.company.university.feed.application.EventFeedFullException;
+import com.company.university.feed.application.EventFeedSubscriber;
+import com.company.university.feed.application.EventReplayBuffer;
+import com.company.university.feed.config.EventFeedProperties;
+import com.company.university.feed.domain.EventLogRepository;
+import com.company.university.outbox.domain.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live feed of lecture and enrollment changes over server-sent events.
+ * <p>
+ * Every instance tails the shared event log, which the outbox relays of all instances append to, into its own
+ * {@link EventReplayBuffer}; event ids are log positions and mean the same on every instance. Tailing starts at
+ * the end of the log, so after a restart only resumes from the current last id are served, older ones resync.
+ * <p>
+ * Streams are async servlet responses, so an open stream holds no request thread. Each one is written by
+ * a virtual thread that parks on the shared buffer while idle.
+ */
+@Slf4j
+@Service
+public class EventFeedService {
+
+    static final String SUBSCRIBERS = "university.event-feed.subscribers";
+    static final String RESYNCS = "university.event-feed.resyncs";
+    static final String POLL_FAILURES = "university.event-feed.poll.failures";
+    static final int POLL_BATCH_SIZE = 1_000;
+
+    private final EventFeedProperties properties;
+    private final EventLogRepository eventLogRepository;
+    private final EventReplayBuffer buffer;
+    private final Set<EventFeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadFactory workers = Thread.ofVirtual().name("event-feed-", 0).factory();
+    private final ReentrantLock tailLock = new ReentrantLock();
+    private final MeterRegistry meterRegistry;
+    private final Counter resyncs;
+    private long lastSeq = -1;
+
+    public EventFeedService(EventFeedProperties properties, EventLogRepository eventLogRepository,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.eventLogRepository = eventLogRepository;
+        this.meterRegistry = meterRegistry;
+        this.buffer = new EventReplayBuffer(properties.getReplayBufferSize());
+        this.resyncs = meterRegistry.counter(RESYNCS);
+        Gauge.builder(SUBSCRIBERS, subscribers, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of every event logged from now on, or, given the id of the last event the client saw,
+     * of everything after it that is still buffered.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new EventFeedFullException("Event feed is at its limit of "
+                    + properties.getMaxSubscribers() + " subscribers");
+        }
+
+        startTailing();
+        long position = lastEventId != null ? buffer.resumePosition(lastEventId) : buffer.head();
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeoutMs());
+        EventFeedSubscriber subscriber = new EventFeedSubscriber(emitter, buffer, position,
+                Duration.ofMillis(properties.getHeartbeatIntervalMs()), resyncs::increment, subscribers::remove);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(properties.getReconnectDelayMs()).comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        workers.newThread(subscriber).start();
+        return emitter;
+    }
+
+    /**
+     * Appends the events logged since the last poll to the buffer. If the log no longer holds the events right
+     * after the last one read, e.g. because this instance could not poll for longer than the retention,
+     * every stream is told to resync instead of silently skipping them.
+     */
+    @Scheduled(fixedDelayString = "${event-feed.poll-interval-ms:200}")
+    public void poll() {
+        tailLock.lock();
+        try {
+            startTailing();
+            List<DomainEvent> events;
+            do {
+                events = eventLogRepository.findAfter(lastSeq, POLL_BATCH_SIZE);
+                if (events.isEmpty()) {
+                    return;
+                }
+                long first = events.getFirst().id();
+                if (first > lastSeq + 1 && Long.valueOf(first).equals(eventLogRepository.firstSeq())) {
+                    log.warn("Event log no longer holds events {} to {}, streams resync", lastSeq + 1, first - 1);
+                    buffer.markLost(first - 1);
+                }
+                buffer.append(events);
+                lastSeq = events.getLast().id();
+            } while (events.size() == POLL_BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.warn("Event log poll failed, retrying on the next run", e);
+            meterRegistry.counter(POLL_FAILURES).increment();
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    /**
+     * Any instance may expire old rows, the retention is far longer than the poll interval of the others.
+     */
+    @Scheduled(fixedDelayString = "${event-feed.log-cleanup-interval-ms:60000}")
+    public void deleteExpiredEvents() {
+        try {
+            int deleted = eventLogRepository.deleteLoggedBefore(properties.getLogRetentionMs());
+            log.debug("Deleted {} expired events from the event log", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Event log cleanup failed, retrying on the next run", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(EventFeedSubscriber::close);
+    }
+
+    /**
+     * Starts tailing at the current end of the log, once.
+     */
+    private void startTailing() {
+        tailLock.lock();
+        try {
+            if (lastSeq < 0) {
+                lastSeq = eventLogRepository.lastSeq();
+                buffer.startAfter(lastSeq);
+            }
+        } finally {
+            tailLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.company.university.lecture.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AVL tree of half-open {@code [start, end)} intervals ordered by {@code (start, id)}.
+ * Every node keeps the largest end of its subtree, so overlap lookups run in O(log n + k).
+ * Not thread-safe, {@link LectureScheduleIndex} guards access.
+ */
+class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    void insert(Long id, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(id, start, end));
+    }
+
+    void remove(Long id, LocalDateTime start) {
+        root = remove(root, id, start);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    List<Long> findOverlapping(LocalDateTime start, LocalDateTime end, Long excludedId) {
+        List<Long> result = new ArrayList<>();
+        collectOverlapping(root, start, end, excludedId, result);
+        return result;
+    }
+
+    private void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end,
+                                    Long excludedId, List<Long> result) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, excludedId, result);
+
+        if (!node.start.isBefore(end)) {
+            return;
+        }
+        if (node.end.isAfter(start) && !node.id.equals(excludedId)) {
+            result.add(node.id);
+        }
+
+        collectOverlapping(node.right, start, end, excludedId, result);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            size++;
+            return inserted;
+        }
+
+        int cmp = compare(inserted.start, inserted.id, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, inserted);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, inserted);
+        } else {
+            node.end = inserted.end;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, Long id, LocalDateTime start) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private int compare(LocalDateTime start, Long id, Node node) {
+        int cmp = start.compareTo(node.start);
+        return cmp != 0 ? cmp : id.compareTo(node.id);
+    }
+
+    private Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.right.maxEnd;
+        }
+    }
+
+    private int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final Long id;
+        private final LocalDateTime start;
+        private LocalDateTime end;
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Long id, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -13,6 +13,7 @@ public class LectureMapper {
                 .startDateTime(request.getStartDateTime())
                 .endDateTime(request.getEndDateTime())
                 .roomNumber(request.getRoomNumber())
+                .capacity(request.getCapacity())
                 .lecturer(lecturer)
                 .build();
     }
@@ -26,6 +27,7 @@ public class LectureMapper {
         lecture.setStartDateTime(request.getStartDateTime());
         lecture.setEndDateTime(request.getEndDateTime());
         lecture.setRoomNumber(request.getRoomNumber());
+        lecture.setCapacity(request.getCapacity());
         lecture.setLecturer(lecturer);
     }
 
@@ -38,6 +40,9 @@ public class LectureMapper {
                 .endDateTime(lecture.getEndDateTime())
                 .roomNumber(lecture.getRoomNumber())
                 .lecturerId(lecture.getLecturer().getId())
+                .capacity(lecture.getCapacity())
+                .seatsTaken(lecture.getSeatsTaken())
+                .version(lecture.getVersion())
                 .build();
     }
 
@@ -50,6 +55,7 @@ public class LectureMapper {
                 .endDateTime(lecture.getEndDateTime())
                 .roomNumber(lecture.getRoomNumber())
                 .lecturerId(lecture.getLecturer().getId())
+                .capacity(lecture.getCapacity())
                 .build();
     }
 
@@ -61,6 +67,8 @@ public class LectureMapper {
                 .startDateTime(lecture.getStartDateTime())
                 .endDateTime(lecture.getEndDateTime())
                 .lecturerId(lecture.getLecturer().getId())
+                .capacity(lecture.getCapacity())
+                .version(lecture.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.company.university.lecture.application;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * Translates violations of the {@code lecture} exclusion constraints into {@link BusinessValidationException}.
+ */
+public final class LectureOverlapConstraints {
+
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String ROOM_CONSTRAINT = "ex_lecture_room_time";
+    private static final String LECTURER_CONSTRAINT = "ex_lecture_lecturer_time";
+
+    private LectureOverlapConstraints() {
+    }
+
+    public static RuntimeException translate(DataIntegrityViolationException exception) {
+        SQLException sqlException = findExclusionViolation(exception);
+        if (sqlException == null) {
+            return exception;
+        }
+
+        String message = String.valueOf(sqlException.getMessage());
+        if (message.contains(ROOM_CONSTRAINT)) {
+            return new BusinessValidationException("Lecture overlaps another lecture in the same room.");
+        }
+        if (message.contains(LECTURER_CONSTRAINT)) {
+            return new BusinessValidationException("Lecture overlaps another lecture of the same lecturer.");
+        }
+        return new BusinessValidationException("Lecture overlaps another lecture (same time, room or lecturer).");
+    }
+
+    private static SQLException findExclusionViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+}
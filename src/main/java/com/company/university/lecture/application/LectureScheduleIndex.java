@@ -0,0 +1,147 @@
+package com.company.university.lecture.application;
+
+import com.company.university.lecture.config.LectureScheduleIndexProperties;
+import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.lecture.domain.LectureSlot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process copy of the lecture schedule with one interval tree per room and one per lecturer.
+ * Answers overlap checks without a database round trip once it has been loaded at startup.
+ * Writes are applied after the surrounding transaction commits, so rolled back changes never reach it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureScheduleIndex {
+
+    private final LectureRepository lectureRepository;
+    private final LectureScheduleIndexProperties properties;
+
+    private final Map<String, IntervalTree> rooms = new HashMap<>();
+    private final Map<Long, IntervalTree> lecturers = new HashMap<>();
+    private final Map<Long, LectureSlot> slots = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            rooms.clear();
+            lecturers.clear();
+            slots.clear();
+            lectureRepository.findAllSlots().forEach(this::add);
+            ready = true;
+            log.info("Lecture schedule index loaded with {} lectures", slots.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean overlaps(Long excludedId,
+                            LocalDateTime start,
+                            LocalDateTime end,
+                            String roomNumber,
+                            Long lecturerId) {
+        lock.readLock().lock();
+        try {
+            return overlaps(rooms.get(roomNumber), start, end, excludedId)
+                    || overlaps(lecturers.get(lecturerId), start, end, excludedId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onSaved(LectureSlot slot) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(slot.id());
+                add(slot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void onDeleted(Long lectureId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(lectureId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private boolean overlaps(IntervalTree tree, LocalDateTime start, LocalDateTime end, Long excludedId) {
+        return tree != null && !tree.findOverlapping(start, end, excludedId).isEmpty();
+    }
+
+    private void add(LectureSlot slot) {
+        slots.put(slot.id(), slot);
+        rooms.computeIfAbsent(slot.roomNumber(), room -> new IntervalTree())
+                .insert(slot.id(), slot.startDateTime(), slot.endDateTime());
+        lecturers.computeIfAbsent(slot.lecturerId(), lecturer -> new IntervalTree())
+                .insert(slot.id(), slot.startDateTime(), slot.endDateTime());
+    }
+
+    private void remove(Long lectureId) {
+        LectureSlot slot = slots.remove(lectureId);
+        if (slot == null) {
+            return;
+        }
+        removeFrom(rooms, slot.roomNumber(), slot);
+        removeFrom(lecturers, slot.lecturerId(), slot);
+    }
+
+    private <K> void removeFrom(Map<K, IntervalTree> trees, K key, LectureSlot slot) {
+        IntervalTree tree = trees.get(key);
+        if (tree == null) {
+            return;
+        }
+        tree.remove(slot.id(), slot.startDateTime());
+        if (tree.isEmpty()) {
+            trees.remove(key);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,20 +1,29 @@
 package com.company.university.lecture.application;
 
+import com.company.university.lecture.config.LectureScheduleIndexProperties;
+import com.company.university.lecture.config.LectureSchedulingProperties;
 import com.company.university.lecture.domain.Lecture;
 import com.company.university.lecture.domain.LectureRepository;
 import com.company.university.lecture.dto.CreateLectureRequest;
 import com.company.university.lecture.dto.UpdateLectureRequest;
+import com.company.university.metrics.ValidationMetrics;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class LectureValidator {
 
     private final LectureRepository lectureRepository;
+    private final LectureScheduleIndex scheduleIndex;
+    private final LectureScheduleIndexProperties properties;
+    private final LectureSchedulingProperties schedulingProperties;
+    private final ValidationMetrics validationMetrics;
 
     public void validateCreate(CreateLectureRequest request) {
         validateTimeRange(request.getStartDateTime(), request.getEndDateTime());
@@ -27,8 +36,21 @@ public class LectureValidator {
         validateOverlap(lectureId, request.getStartDateTime(), request.getEndDateTime(), request.getRoomNumber(), request.getLecturerId());
     }
 
+    public void validateCapacity(Lecture lecture, Integer capacity) {
+        if (capacity != null && capacity < lecture.getSeatsTaken()) {
+            validationMetrics.rejected("lecture-capacity");
+            throw new BusinessValidationException(
+                    "Lecture capacity cannot be lower than the " + lecture.getSeatsTaken() + " seats already taken.");
+        }
+    }
+
+    public void validateTimeRange(CreateLectureRequest request) {
+        validateTimeRange(request.getStartDateTime(), request.getEndDateTime());
+    }
+
     private void validateTimeRange(LocalDateTime start, LocalDateTime end) {
         if (!end.isAfter(start)) {
+            validationMetrics.rejected("lecture-time-range");
             throw new BusinessValidationException("Lecture end time must be AFTER start time.");
         }
     }
@@ -38,13 +60,47 @@ public class LectureValidator {
                                  LocalDateTime end,
                                  String roomNumber,
                                  Long lecturerId) {
+        if (!schedulingProperties.isOverlapPrecheck()) {
+            return;
+        }
 
-        List<Lecture> overlapping = lectureRepository.findOverlapping(id, start, end, roomNumber, lecturerId);
+        boolean overlaps = scheduleIndex.isReady()
+                ? overlapsInIndex(id, start, end, roomNumber, lecturerId)
+                : overlapsInDatabase(id, start, end, roomNumber, lecturerId);
 
-        if (!overlapping.isEmpty()) {
+        if (overlaps) {
+            validationMetrics.rejected("lecture-overlap");
             throw new BusinessValidationException(
                     "Lecture overlaps another lecture (same time, room or lecturer)."
             );
         }
+        validationMetrics.passed("lecture-overlap");
+    }
+
+    private boolean overlapsInIndex(Long id,
+                                    LocalDateTime start,
+                                    LocalDateTime end,
+                                    String roomNumber,
+                                    Long lecturerId) {
+        boolean overlaps = scheduleIndex.overlaps(id, start, end, roomNumber, lecturerId);
+        if (!properties.isVerify()) {
+            return overlaps;
+        }
+
+        boolean overlapsInDatabase = overlapsInDatabase(id, start, end, roomNumber, lecturerId);
+        if (overlaps != overlapsInDatabase) {
+            log.warn("Lecture schedule index is out of sync for room {} / lecturer {} between {} and {}: index={}, database={}",
+                    roomNumber, lecturerId, start, end, overlaps, overlapsInDatabase);
+        }
+        return overlapsInDatabase;
+    }
+
+    private boolean overlapsInDatabase(Long id,
+                                       LocalDateTime start,
+                                       LocalDateTime end,
+                                       String roomNumber,
+                                       Long lecturerId) {
+        List<Lecture> overlapping = lectureRepository.findOverlapping(id, start, end, roomNumber, lecturerId);
+        return !overlapping.isEmpty();
     }
 }
@@ -0,0 +1,15 @@
+package com.company.university.lecture.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "lecture.schedule-index")
+@Getter
+@Setter
+public class LectureScheduleIndexProperties {
+    private boolean enabled;
+    private boolean verify;
+}
@@ -0,0 +1,18 @@
+package com.company.university.lecture.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Configuration
+@ConfigurationProperties(prefix = "lecture.scheduling")
+@Getter
+@Setter
+public class LectureSchedulingProperties {
+    /**
+     * Check for overlapping lectures before writing. The exclusion constraints on {@code lecture} reject
+     * double-bookings either way, turning this off saves a round trip per write.
+     */
+    private boolean overlapPrecheck = true;
+}
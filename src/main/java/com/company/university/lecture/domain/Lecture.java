@@ -4,6 +4,8 @@ import com.company.university.lecturer.domain.Lecturer;
 import com.company.university.student.domain.Student;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -17,12 +19,18 @@ import java.util.Set;
 @AllArgsConstructor
 @EqualsAndHashCode(exclude = {"lecturer", "students"})
 @Table(name = "lecture")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lecture")
 public class Lecture {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecture_seq")
+    @SequenceGenerator(name = "lecture_seq", sequenceName = "lecture_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -37,6 +45,17 @@ public class Lecture {
     @Column(nullable = false)
     private LocalDateTime endDateTime;
 
+    /**
+     * Maximum number of enrolled students, {@code null} means unlimited.
+     */
+    private Integer capacity;
+
+    /**
+     * Maintained by conditional updates in {@code StudentEnrollmentRepository}, never written through the entity.
+     */
+    @Column(insertable = false, updatable = false)
+    private int seatsTaken;
+
     @Builder.Default
     @ToString.Exclude
     @ManyToMany(mappedBy = "lectures")
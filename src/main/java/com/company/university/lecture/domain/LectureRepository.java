@@ -1,8 +1,8 @@
 package com.company.university.lecture.domain;
 
+import com.company.university.lecture.dto.FindLectureResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -41,9 +41,61 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
             @Param("newEnd") LocalDateTime newEnd
     );
 
-    @EntityGraph(attributePaths = "lecturer")
-    List<Lecture> findByStartDateTimeBetween(LocalDateTime start, LocalDateTime end);
+    @Query("""
+        SELECT new com.company.university.lecture.domain.LectureSlot(
+            l.id, l.roomNumber, l.lecturer.id, l.startDateTime, l.endDateTime)
+        FROM Lecture l
+    """)
+    List<LectureSlot> findAllSlots();
+
+    @Query("SELECT l.id FROM Lecture l WHERE l.lecturer.id = :lecturerId")
+    List<Long> findIdsByLecturerId(@Param("lecturerId") Long lecturerId);
+
+    @Query("""
+        SELECT new com.company.university.lecture.dto.FindLectureResponse(
+            l.id, l.title, l.description, l.roomNumber, l.startDateTime, l.endDateTime,
+            l.lecturer.id, l.capacity, l.seatsTaken, l.version)
+        FROM Lecture l
+    """)
+    List<FindLectureResponse> findAllResponses();
+
+    @Query(
+            value = """
+                SELECT new com.company.university.lecture.dto.FindLectureResponse(
+                    l.id, l.title, l.description, l.roomNumber, l.startDateTime, l.endDateTime,
+                    l.lecturer.id, l.capacity, l.seatsTaken, l.version)
+                FROM Lecture l
+            """,
+            countQuery = """
+                SELECT COUNT(l) FROM Lecture l
+            """
+    )
+    Page<FindLectureResponse> findResponsePage(Pageable pageable);
+
+    @Query("""
+        SELECT new com.company.university.lecture.dto.FindLectureResponse(
+            l.id, l.title, l.description, l.roomNumber, l.startDateTime, l.endDateTime,
+            l.lecturer.id, l.capacity, l.seatsTaken, l.version)
+        FROM Lecture l
+        WHERE l.startDateTime BETWEEN :start AND :end
+    """)
+    List<FindLectureResponse> findResponsesStartingBetween(@Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
 
-    @EntityGraph(attributePaths = "lecturer")
-    Page<Lecture> findByStartDateTimeBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+    @Query(
+            value = """
+                SELECT new com.company.university.lecture.dto.FindLectureResponse(
+                    l.id, l.title, l.description, l.roomNumber, l.startDateTime, l.endDateTime,
+                    l.lecturer.id, l.capacity, l.seatsTaken, l.version)
+                FROM Lecture l
+                WHERE l.startDateTime BETWEEN :start AND :end
+            """,
+            countQuery = """
+                SELECT COUNT(l) FROM Lecture l
+                WHERE l.startDateTime BETWEEN :start AND :end
+            """
+    )
+    Page<FindLectureResponse> findResponsePageStartingBetween(@Param("start") LocalDateTime start,
+                                                              @Param("end") LocalDateTime end,
+                                                              Pageable pageable);
 }
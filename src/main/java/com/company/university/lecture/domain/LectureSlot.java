@@ -0,0 +1,22 @@
+package com.company.university.lecture.domain;
+
+import java.time.LocalDateTime;
+
+public record LectureSlot(
+        Long id,
+        String roomNumber,
+        Long lecturerId,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime
+) {
+
+    public static LectureSlot of(Lecture lecture) {
+        return new LectureSlot(
+                lecture.getId(),
+                lecture.getRoomNumber(),
+                lecture.getLecturer().getId(),
+                lecture.getStartDateTime(),
+                lecture.getEndDateTime()
+        );
+    }
+}
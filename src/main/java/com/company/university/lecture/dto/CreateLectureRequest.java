@@ -2,6 +2,7 @@ package com.company.university.lecture.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -22,4 +23,6 @@ public class CreateLectureRequest {
     private LocalDateTime endDateTime;
     @NotNull
     private Long lecturerId;
+    @Positive
+    private Integer capacity;
 }
@@ -15,4 +15,5 @@ public class CreateLectureResponse {
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
     private Long lecturerId;
+    private Integer capacity;
 }
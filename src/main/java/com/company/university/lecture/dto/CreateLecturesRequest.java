@@ -0,0 +1,10 @@
+package com.company.university.lecture.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record CreateLecturesRequest(
+        @NotEmpty
+        List<CreateLectureRequest> lectures
+) { }
@@ -0,0 +1,8 @@
+package com.company.university.lecture.dto;
+
+import java.util.List;
+
+public record CreateLecturesResponse(
+        int created,
+        List<Long> ids
+) { }
@@ -2,6 +2,7 @@ package com.company.university.lecture.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class FindLectureResponse {
     private Long id;
     private String title;
@@ -17,4 +19,7 @@ public class FindLectureResponse {
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
     private Long lecturerId;
+    private Integer capacity;
+    private int seatsTaken;
+    private Long version;
 }
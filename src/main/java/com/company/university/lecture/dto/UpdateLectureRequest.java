@@ -2,6 +2,7 @@ package com.company.university.lecture.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,4 +25,6 @@ public class UpdateLectureRequest {
     private LocalDateTime endDateTime;
     @NotNull
     private Long lecturerId;
+    @Positive
+    private Integer capacity;
 }
@@ -16,4 +16,6 @@ public class UpdateLectureResponse {
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
     private Long lecturerId;
+    private Integer capacity;
+    private Long version;
 }
@@ -1,75 +1,102 @@
 package com.company.university.lecture.service;
 
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
 import com.company.university.lecture.application.LectureMapper;
 import com.company.university.lecture.application.LectureNotFoundException;
+import com.company.university.lecture.application.BusinessValidationException;
+import com.company.university.lecture.application.LectureOverlapConstraints;
+import com.company.university.lecture.application.LectureScheduleIndex;
 import com.company.university.lecture.application.LectureValidator;
 import com.company.university.lecture.domain.Lecture;
 import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.lecture.domain.LectureSlot;
 import com.company.university.lecture.dto.*;
 import com.company.university.lecturer.application.LecturerNotFoundException;
 import com.company.university.lecturer.domain.Lecturer;
 import com.company.university.lecturer.domain.LecturerRepository;
-import jakarta.transaction.Transactional;
+import com.company.university.metrics.ValidationMetrics;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.service.OutboxService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.company.university.cache.service.ResponseCacheName.LECTURE;
+import static com.company.university.outbox.domain.DomainEventType.LECTURE_CREATED;
+import static com.company.university.outbox.domain.DomainEventType.LECTURE_UPDATED;
 
 @Service
+@Timed("university.service")
 @RequiredArgsConstructor
 @Transactional
 public class LectureService {
 
+    private static final int IMPORT_FLUSH_SIZE = 1_000;
+    private static final int MAX_IMPORT_BATCH_SIZE = 10_000;
+
     private final LectureRepository lectureRepository;
     private final LectureValidator lectureValidator;
     private final LecturerRepository lecturerRepository;
+    private final LectureScheduleIndex scheduleIndex;
+    private final SecondLevelCacheService secondLevelCache;
+    private final ResponseCacheService responseCache;
+    private final ValidationMetrics validationMetrics;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
 
+    @Transactional(readOnly = true)
     public List<FindLectureResponse> getLectures() {
-        return lectureRepository.findAll()
-                .stream()
-                .map(LectureMapper::findLectureResponse)
-                .toList();
+        return lectureRepository.findAllResponses();
     }
 
+    /**
+     * Not read-only: the response is cached, so a miss is always loaded from the primary.
+     */
     public FindLectureResponse getLecture(Long id) {
-        Lecture lecture = findLectureById(id);
-        return LectureMapper.findLectureResponse(lecture);
+        return responseCache.get(LECTURE, id, this::loadLecture);
     }
 
+    @Transactional(readOnly = true)
     public List<FindLectureResponse> getLectures(LocalDate date) {
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
 
-        return lectureRepository.findByStartDateTimeBetween(startOfDay, endOfDay)
-                .stream()
-                .map(LectureMapper::findLectureResponse)
-                .toList();
+        return lectureRepository.findResponsesStartingBetween(startOfDay, endOfDay);
     }
 
+    @Transactional(readOnly = true)
     public Page<FindLectureResponse> getLectures(int page, int size, String sortBy, String direction) {
         Pageable pageable = createPageable(page, size, sortBy, direction);
-        return lectureRepository.findAll(pageable)
-                .map(LectureMapper::findLectureResponse);
+        return lectureRepository.findResponsePage(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Page<FindLectureResponse> getLectures(Pageable pageable, LocalDate startDate, LocalDate endDate) {
         if (startDate == null && endDate == null) {
-            return lectureRepository.findAll(pageable)
-                    .map(LectureMapper::findLectureResponse);
+            return lectureRepository.findResponsePage(pageable);
         }
 
         LocalDateTime start = startDate != null ? startDate.atStartOfDay() : LocalDate.MIN.atStartOfDay();
         LocalDateTime end = endDate != null ? endDate.atTime(LocalTime.MAX) : LocalDate.MAX.atTime(LocalTime.MAX);
 
-        return lectureRepository.findByStartDateTimeBetween(start, end, pageable)
-                .map(LectureMapper::findLectureResponse);
+        return lectureRepository.findResponsePageStartingBetween(start, end, pageable);
     }
 
     public CreateLectureResponse createLecture(CreateLectureRequest request) {
@@ -78,25 +105,140 @@ public class LectureService {
         lectureValidator.validateCreate(request);
 
         Lecture lecture = LectureMapper.toLecture(request, lecturer);
-        Lecture saved = lectureRepository.save(lecture);
+        Lecture saved = saveAndFlush(lecture);
+        scheduleIndex.onSaved(LectureSlot.of(saved));
+        outboxService.lecturesSaved(LECTURE_CREATED, List.of(saved));
 
         return LectureMapper.createLectureResponse(saved);
     }
 
+    /**
+     * Inserts the lectures in JDBC batches, flushing and clearing the persistence context every
+     * {@value #IMPORT_FLUSH_SIZE} rows. Overlaps, also between lectures of the same import, are left to
+     * the exclusion constraints instead of one precheck query per lecture; any overlap rejects the whole import.
+     * The request itself is capped at {@value #MAX_IMPORT_BATCH_SIZE} lectures.
+     */
+    public CreateLecturesResponse createLectures(CreateLecturesRequest request) {
+        if (request == null || request.lectures() == null || request.lectures().isEmpty()) {
+            throw new IllegalArgumentException("Lectures cannot be empty");
+        }
+        if (request.lectures().size() > MAX_IMPORT_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_IMPORT_BATCH_SIZE + " lectures at once");
+        }
+
+        List<CreateLectureRequest> lectures = request.lectures();
+        if (lectures.stream().anyMatch(LectureService::isIncomplete)) {
+            throw new IllegalArgumentException(
+                    "Title, room, start time, end time and lecturer are required for every lecture");
+        }
+        lectures.forEach(lectureValidator::validateTimeRange);
+
+        Set<Long> lecturerIds = lectures.stream()
+                .map(CreateLectureRequest::getLecturerId)
+                .collect(Collectors.toSet());
+        Set<Long> existingLecturerIds = lecturerRepository.findAllById(lecturerIds).stream()
+                .map(Lecturer::getId)
+                .collect(Collectors.toSet());
+        lecturerIds.stream()
+                .filter(id -> !existingLecturerIds.contains(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new LecturerNotFoundException("Lecturer not found: " + id);
+                });
+
+        List<Long> ids = new ArrayList<>(lectures.size());
+        for (int from = 0; from < lectures.size(); from += IMPORT_FLUSH_SIZE) {
+            List<Lecture> chunk = lectures.subList(from, Math.min(from + IMPORT_FLUSH_SIZE, lectures.size()))
+                    .stream()
+                    .map(lecture -> LectureMapper.toLecture(lecture,
+                            entityManager.getReference(Lecturer.class, lecture.getLecturerId())))
+                    .toList();
+
+            List<Lecture> saved = lectureRepository.saveAll(chunk);
+            flush();
+            saved.forEach(lecture -> {
+                ids.add(lecture.getId());
+                scheduleIndex.onSaved(LectureSlot.of(lecture));
+            });
+            outboxService.lecturesSaved(LECTURE_CREATED, saved);
+            entityManager.clear();
+        }
+        return new CreateLecturesResponse(ids.size(), ids);
+    }
+
     public UpdateLectureResponse updateLecture(Long id, UpdateLectureRequest request) {
+        return updateLecture(id, request, null);
+    }
+
+    /**
+     * Updates the lecture if it is still at {@code expectedVersion}, a {@code null} version skips the check.
+     */
+    public UpdateLectureResponse updateLecture(Long id, UpdateLectureRequest request, Long expectedVersion) {
         Lecturer lecturer = findLecturerById(request.getLecturerId());
         Lecture lecture = findLectureById(id);
 
+        if (expectedVersion != null && !expectedVersion.equals(lecture.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Lecture " + id + " is at version " + lecture.getVersion() + ", expected " + expectedVersion);
+        }
+
         lectureValidator.validateUpdate(id, request);
+        lectureValidator.validateCapacity(lecture, request.getCapacity());
 
         LectureMapper.updateLecture(lecture, request, lecturer);
-        Lecture saved = lectureRepository.save(lecture);
+        Lecture saved = saveAndFlush(lecture);
+        scheduleIndex.onSaved(LectureSlot.of(saved));
+        responseCache.evict(LECTURE, id);
+        outboxService.lecturesSaved(LECTURE_UPDATED, List.of(saved));
 
         return LectureMapper.updateLectureResponse(saved);
     }
 
     public void deleteLecture(Long id) {
         lectureRepository.deleteById(id);
+        scheduleIndex.onDeleted(id);
+        secondLevelCache.evictAllStudentLectures();
+        responseCache.evict(LECTURE, id);
+        outboxService.append(OutboxEvent.lectureDeleted(id));
+    }
+
+    /**
+     * Flushes immediately so that an exclusion constraint violation surfaces here, not at commit.
+     */
+    private Lecture saveAndFlush(Lecture lecture) {
+        try {
+            return lectureRepository.saveAndFlush(lecture);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+    }
+
+    private static boolean isIncomplete(CreateLectureRequest lecture) {
+        return lecture == null
+                || lecture.getTitle() == null || lecture.getTitle().isBlank()
+                || lecture.getRoomNumber() == null || lecture.getRoomNumber().isBlank()
+                || lecture.getStartDateTime() == null || lecture.getEndDateTime() == null
+                || lecture.getLecturerId() == null;
+    }
+
+    private void flush() {
+        try {
+            lectureRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+    }
+
+    private RuntimeException translate(DataIntegrityViolationException e) {
+        RuntimeException translated = LectureOverlapConstraints.translate(e);
+        if (translated instanceof BusinessValidationException) {
+            validationMetrics.rejected("lecture-overlap-constraint");
+        }
+        return translated;
+    }
+
+    private FindLectureResponse loadLecture(Long id) {
+        return LectureMapper.findLectureResponse(findLectureById(id));
     }
 
     private Lecture findLectureById(Long id) {
@@ -30,6 +30,7 @@ public class LecturerMapper {
                 .name(lecturerSaved.getName())
                 .surname(lecturerSaved.getSurname())
                 .email(lecturerSaved.getEmail())
+                .version(lecturerSaved.getVersion())
                 .build();
     }
 
@@ -40,6 +41,7 @@ public class LecturerMapper {
                 .surname(lecturer.getSurname())
                 .email(lecturer.getEmail())
                 .dateOfBirth(lecturer.getDateOfBirth())
+                .version(lecturer.getVersion())
                 .build();
     }
 }
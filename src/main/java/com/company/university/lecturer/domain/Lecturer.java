@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Past;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -18,12 +20,18 @@ import java.util.Set;
 @AllArgsConstructor
 @EqualsAndHashCode(exclude = "lectures")
 @Table(name = "lecturer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lecturer")
 public class Lecturer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecturer_seq")
+    @SequenceGenerator(name = "lecturer_seq", sequenceName = "lecturer_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
     private String surname;
 
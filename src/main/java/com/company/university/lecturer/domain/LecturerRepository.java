@@ -1,6 +1,31 @@
 package com.company.university.lecturer.domain;
 
+import com.company.university.lecturer.dto.FindLecturerResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface LecturerRepository extends JpaRepository<Lecturer, Long> {
+
+    @Query("""
+        SELECT new com.company.university.lecturer.dto.FindLecturerResponse(
+            l.id, l.name, l.surname, l.dateOfBirth, l.email, l.version)
+        FROM Lecturer l
+    """)
+    List<FindLecturerResponse> findAllResponses();
+
+    @Query(
+            value = """
+                SELECT new com.company.university.lecturer.dto.FindLecturerResponse(
+                    l.id, l.name, l.surname, l.dateOfBirth, l.email, l.version)
+                FROM Lecturer l
+            """,
+            countQuery = """
+                SELECT COUNT(l) FROM Lecturer l
+            """
+    )
+    Page<FindLecturerResponse> findResponsePage(Pageable pageable);
 }
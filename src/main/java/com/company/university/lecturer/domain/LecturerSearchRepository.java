@@ -0,0 +1,99 @@
+package com.company.university.lecturer.domain;
+
+import com.company.university.search.application.SearchCursor;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Ranked lecturer search, same matching, candidate limit and keyset paging as {@code StudentSearchRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LecturerSearchRepository {
+
+    private static final String SEARCH = """
+            WITH params AS MATERIALIZED (
+                SELECT to_tsquery('simple', ?) AS query, ?::text AS text
+            ),
+            head AS MATERIALIZED (
+                SELECT l.id
+                FROM (SELECT id, search_vector FROM lecturer ORDER BY id LIMIT ?) l, params p
+                WHERE l.search_vector @@ p.query
+                LIMIT ?
+            ),
+            tail AS MATERIALIZED (
+                SELECT l.id
+                FROM lecturer l, params p
+                WHERE (SELECT count(*) FROM head) < ?
+                  AND l.id + 0 > (SELECT id FROM lecturer ORDER BY id OFFSET ? LIMIT 1)
+                  AND l.search_vector @@ p.query
+                ORDER BY l.id + 0
+                LIMIT ?
+            ),
+            fuzzy AS MATERIALIZED (
+                SELECT l.id
+                FROM lecturer l, params p
+                WHERE (SELECT count(*) FROM head) + (SELECT count(*) FROM tail) < ?
+                  AND p.text <% l.search_text
+                  AND NOT COALESCE(l.search_vector @@ p.query, false)
+                ORDER BY l.id + 0
+                LIMIT ?
+            ),
+            candidates AS (
+                SELECT id FROM head
+                UNION ALL
+                SELECT id FROM tail
+                UNION ALL
+                SELECT id FROM fuzzy
+                ORDER BY id
+                LIMIT ?
+            ),
+            ranked AS (
+                SELECT l.id, l.name, l.surname, l.email, l.date_of_birth, l.version,
+                       round((COALESCE(ts_rank(l.search_vector, p.query), 0)
+                              + word_similarity(p.text, l.search_text))::numeric, 6) AS score
+                FROM candidates c
+                JOIN lecturer l ON l.id = c.id
+                CROSS JOIN params p
+            )
+            SELECT *
+            FROM ranked
+            WHERE ?::numeric IS NULL
+               OR score < ?::numeric
+               OR (score = ?::numeric AND id > ?)
+            ORDER BY score DESC, id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SearchHit<Lecturer>> search(SearchQuery query, SearchCursor after, int limit) {
+        BigDecimal score = after != null ? after.score() : null;
+        Long id = after != null ? after.id() : null;
+
+        return jdbcTemplate.query(SEARCH,
+                (rs, rowNum) -> new SearchHit<>(
+                        Lecturer.builder()
+                                .id(rs.getLong("id"))
+                                .name(rs.getString("name"))
+                                .surname(rs.getString("surname"))
+                                .email(rs.getString("email"))
+                                .dateOfBirth(rs.getObject("date_of_birth", LocalDate.class))
+                                .version(rs.getLong("version"))
+                                .build(),
+                        rs.getBigDecimal("score")),
+                query.tsQuery(), query.text(),
+                SearchQuery.CANDIDATE_SCAN_ROWS, SearchQuery.MAX_CANDIDATES,
+                SearchQuery.MAX_CANDIDATES, SearchQuery.CANDIDATE_SCAN_ROWS - 1, SearchQuery.MAX_CANDIDATES,
+                limit, SearchQuery.MAX_CANDIDATES,
+                SearchQuery.MAX_CANDIDATES,
+                score, score, score, id, limit);
+    }
+}
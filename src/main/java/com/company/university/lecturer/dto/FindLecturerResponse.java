@@ -2,6 +2,7 @@ package com.company.university.lecturer.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,10 +10,12 @@ import java.time.LocalDate;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class FindLecturerResponse {
     private Long id;
     private String name;
     private String surname;
     private LocalDate dateOfBirth;
     private String email;
+    private Long version;
 }
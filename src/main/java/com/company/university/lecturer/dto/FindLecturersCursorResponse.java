@@ -0,0 +1,15 @@
+package com.company.university.lecturer.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FindLecturersCursorResponse {
+    private List<FindLecturerResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -11,4 +11,5 @@ public class UpdateLecturerResponse {
     private String name;
     private String surname;
     private String email;
+    private Long version;
 }
@@ -1,28 +1,48 @@
 package com.company.university.lecturer.service;
 
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
+import com.company.university.lecture.application.LectureScheduleIndex;
 import com.company.university.lecture.domain.Lecture;
-import com.company.university.lecturer.application.LecturerMapper;
+import com.company.university.lecture.domain.LectureRepository;
 import com.company.university.lecturer.application.LecturerNotFoundException;
 import com.company.university.lecturer.domain.Lecturer;
 import com.company.university.lecturer.domain.LecturerRepository;
+import com.company.university.lecturer.domain.LecturerSearchRepository;
 import com.company.university.lecturer.dto.*;
-import jakarta.transaction.Transactional;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.service.OutboxService;
+import com.company.university.search.application.SearchCursor;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static com.company.university.cache.service.ResponseCacheName.LECTURE;
+import static com.company.university.cache.service.ResponseCacheName.LECTURER;
 import static com.company.university.lecturer.application.LecturerMapper.*;
 
 @Service
+@Timed("university.service")
 @RequiredArgsConstructor
 @Transactional
 public class LecturerService {
     private final LecturerRepository lecturerRepository;
+    private final SecondLevelCacheService secondLevelCache;
+    private final ResponseCacheService responseCache;
+    private final LecturerSearchRepository searchRepository;
+    private final LectureRepository lectureRepository;
+    private final LectureScheduleIndex scheduleIndex;
+    private final OutboxService outboxService;
 
     public CreateLecturerResponse createLecturer(CreateLecturerRequest request) {
         if (request.getId() != null) {
@@ -34,20 +54,19 @@ public class LecturerService {
         return createLecturerResponse(lecturerSaved);
     }
 
+    /**
+     * Not read-only: the response is cached, so a miss is always loaded from the primary.
+     */
     public FindLecturerResponse getLecturer(Long id) {
-        Lecturer lecturer = lecturerRepository.findById(id)
-                .orElseThrow(() -> new LecturerNotFoundException("Lecturer not found with id: " + id));
-
-        return findLecturerResponse(lecturer);
+        return responseCache.get(LECTURER, id, this::loadLecturer);
     }
 
+    @Transactional(readOnly = true)
     public List<FindLecturerResponse> getLecturers() {
-        return lecturerRepository.findAll()
-                .stream()
-                .map(LecturerMapper::findLecturerResponse)
-                .toList();
+        return lecturerRepository.findAllResponses();
     }
 
+    @Transactional(readOnly = true)
     public Page<FindLecturerResponse> getLecturers(int page, int size, String sortBy, String direction) {
 
         Sort sort = direction.equalsIgnoreCase("desc") ?
@@ -56,14 +75,46 @@ public class LecturerService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        return lecturerRepository.findAll(pageable)
-                .map(LecturerMapper::findLecturerResponse);
+        return lecturerRepository.findResponsePage(pageable);
+    }
+
+    /**
+     * Ranked search by name, surname or email, keyset-paged on the rank.
+     */
+    @Transactional(readOnly = true)
+    public FindLecturersCursorResponse searchLecturers(String query, String cursor, int size) {
+        SearchQuery searchQuery = SearchQuery.parse(query);
+        SearchQuery.validatePageSize(size);
+        SearchCursor position = cursor != null ? SearchCursor.decode(cursor) : null;
+
+        List<SearchHit<Lecturer>> hits = searchRepository.search(searchQuery, position, size + 1);
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<Lecturer>> content = hasNext ? hits.subList(0, size) : hits;
+
+        return FindLecturersCursorResponse.builder()
+                .content(content.stream().map(hit -> findLecturerResponse(hit.item())).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new SearchCursor(content.getLast().score(), content.getLast().item().getId()).encode() : null)
+                .build();
     }
 
     public UpdateLecturerResponse updateLecturer(Long id, UpdateLecturerRequest updatedLecturer) {
+        return updateLecturer(id, updatedLecturer, null);
+    }
+
+    /**
+     * Updates the lecturer if it is still at {@code expectedVersion}, a {@code null} version skips the check.
+     */
+    public UpdateLecturerResponse updateLecturer(Long id, UpdateLecturerRequest updatedLecturer, Long expectedVersion) {
         Lecturer lecturer = lecturerRepository.findById(id)
                 .orElseThrow(() -> new LecturerNotFoundException("Lecturer not found with id: " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(lecturer.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Lecturer " + id + " is at version " + lecturer.getVersion() + ", expected " + expectedVersion);
+        }
+
         if (updatedLecturer.getName() != null) {
             lecturer.setName(updatedLecturer.getName());
         }
@@ -77,13 +128,24 @@ public class LecturerService {
             lecturer.setDateOfBirth(updatedLecturer.getDateOfBirth());
         }
 
-        Lecturer lecturerSaved = lecturerRepository.save(lecturer);
+        Lecturer lecturerSaved = lecturerRepository.saveAndFlush(lecturer);
+        responseCache.evict(LECTURER, id);
 
         return updateLecturerResponse(lecturerSaved);
     }
 
+    /**
+     * Deletes the lecturer together with all of their lectures, which the schedule index forgets once it commits.
+     * Each of those lectures gets its own deleted event, as if it had been deleted on its own.
+     */
     public void deleteLecturer(Long id) {
+        List<Long> lectureIds = lectureRepository.findIdsByLecturerId(id);
         lecturerRepository.deleteById(id);
+        lectureIds.forEach(scheduleIndex::onDeleted);
+        outboxService.appendAll(lectureIds.stream().map(OutboxEvent::lectureDeleted).toList());
+        secondLevelCache.evictAllStudentLectures();
+        responseCache.evict(LECTURER, id);
+        responseCache.evictAll(LECTURE);
     }
 
     public void addLectureToLecturer(Long lecturerId, Lecture lecture) {
@@ -91,6 +153,7 @@ public class LecturerService {
                 .orElseThrow(() -> new IllegalArgumentException("Lecturer not found with id: " + lecturerId));
         lecturer.addLecture(lecture);
         lecturerRepository.save(lecturer);
+        evictLecture(lecture);
     }
 
     public void removeLectureFromLecturer(Long lecturerId, Lecture lecture) {
@@ -98,5 +161,19 @@ public class LecturerService {
                 .orElseThrow(() -> new IllegalArgumentException("Lecturer not found with id: " + lecturerId));
         lecturer.removeLecture(lecture);
         lecturerRepository.save(lecturer);
+        evictLecture(lecture);
+    }
+
+    private FindLecturerResponse loadLecturer(Long id) {
+        Lecturer lecturer = lecturerRepository.findById(id)
+                .orElseThrow(() -> new LecturerNotFoundException("Lecturer not found with id: " + id));
+
+        return findLecturerResponse(lecturer);
+    }
+
+    private void evictLecture(Lecture lecture) {
+        if (lecture.getId() != null) {
+            responseCache.evict(LECTURE, lecture.getId());
+        }
     }
 }
\ No newline at end of file
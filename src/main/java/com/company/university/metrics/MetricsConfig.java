@@ -0,0 +1,26 @@
+package com.company.university.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on the service classes and hooks the per-request query counter into Hibernate,
+ * which also replaces {@code show-sql} for spotting N+1s and chatty endpoints.
+ * Everything is exported through {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer(RequestQueryCounter queryCounter) {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", queryCounter);
+    }
+}
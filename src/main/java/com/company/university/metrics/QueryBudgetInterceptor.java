@@ -0,0 +1,30 @@
+package com.company.university.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Applies the per-endpoint query budget once the handler, and with it the URI template, is known.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final RequestQueryCounter queryCounter;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            queryCounter.limitTo(request.getMethod() + ":" + pattern);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.university.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements seen during one request. Not thread-safe, each instance belongs to the request thread.
+ */
+class RequestQueries {
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private String endpoint;
+    private int limit;
+    private int total;
+    private boolean limitReported;
+
+    RequestQueries(String endpoint, int limit) {
+        this.endpoint = endpoint;
+        this.limit = limit;
+    }
+
+    void limitTo(String endpoint, int limit) {
+        this.endpoint = endpoint;
+        this.limit = limit;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int total() {
+        return total;
+    }
+
+    /**
+     * @return how often this exact statement has run in the request so far
+     */
+    int record(String sql) {
+        total++;
+        return executions.merge(sql, 1, Integer::sum);
+    }
+
+    /**
+     * @return {@code true} the first time the request goes over its limit
+     */
+    boolean exceedsLimitForFirstTime() {
+        if (limitReported || total <= limit) {
+            return false;
+        }
+        limitReported = true;
+        return true;
+    }
+}
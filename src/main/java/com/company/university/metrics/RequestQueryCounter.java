@@ -0,0 +1,76 @@
+package com.company.university.metrics;
+
+import com.company.university.metrics.config.QueryBudgetMode;
+import com.company.university.metrics.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start(String)} and {@link #stop()},
+ * and reports requests that go over their query budget or repeat one statement often enough to be an N+1.
+ * Statements issued through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestQueryCounter implements StatementInspector {
+
+    static final String VIOLATIONS = "university.db.query-budget.violations";
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<RequestQueries> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueries queries = current.get();
+        if (queries == null) {
+            return sql;
+        }
+
+        int executions = queries.record(sql);
+        if (!properties.isEnabled()) {
+            return sql;
+        }
+        if (executions == properties.getRepeatedStatementThreshold()) {
+            report(queries, "repeated-statement",
+                    "%s ran the same statement %d times, likely an N+1: %s".formatted(queries.endpoint(), executions, sql));
+        }
+        if (queries.exceedsLimitForFirstTime()) {
+            report(queries, "limit",
+                    "%s went over its budget of %d statements".formatted(queries.endpoint(), queries.limit()));
+        }
+        return sql;
+    }
+
+    public void start(String endpoint) {
+        current.set(new RequestQueries(endpoint, properties.limitFor(endpoint)));
+    }
+
+    /**
+     * Switches the running request to the budget of the handler it was mapped to.
+     */
+    public void limitTo(String endpoint) {
+        RequestQueries queries = current.get();
+        if (queries != null) {
+            queries.limitTo(endpoint, properties.limitFor(endpoint));
+        }
+    }
+
+    public int stop() {
+        RequestQueries queries = current.get();
+        current.remove();
+        return queries == null ? 0 : queries.total();
+    }
+
+    private void report(RequestQueries queries, String type, String message) {
+        meterRegistry.counter(VIOLATIONS, "type", type, "endpoint", queries.endpoint()).increment();
+        if (properties.getMode() == QueryBudgetMode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.company.university.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many statements each HTTP request sent to the database, tagged by the matched URI template.
+ * Runs ahead of the security chain so authentication lookups are counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    static final String QUERIES_PER_REQUEST = "university.db.queries";
+
+    private final RequestQueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        queryCounter.start(request.getMethod() + ":UNKNOWN");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = queryCounter.stop();
+            DistributionSummary.builder(QUERIES_PER_REQUEST)
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
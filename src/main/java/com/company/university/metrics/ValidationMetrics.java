@@ -0,0 +1,29 @@
+package com.company.university.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the outcome of the business checks that can reject a write, such as schedule conflicts and lecture overlaps.
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationMetrics {
+
+    static final String CHECKS = "university.validation.checks";
+
+    private final MeterRegistry meterRegistry;
+
+    public void passed(String check) {
+        record(check, "passed");
+    }
+
+    public void rejected(String check) {
+        record(check, "rejected");
+    }
+
+    private void record(String check, String outcome) {
+        meterRegistry.counter(CHECKS, "check", check, "outcome", outcome).increment();
+    }
+}
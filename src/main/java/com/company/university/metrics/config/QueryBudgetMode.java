@@ -0,0 +1,8 @@
+package com.company.university.metrics.config;
+
+public enum QueryBudgetMode {
+    /** Logs a warning and counts the violation, the request carries on. */
+    WARN,
+    /** Fails the statement that broke the budget with {@code QueryBudgetExceededException}, meant for tests. */
+    FAIL
+}
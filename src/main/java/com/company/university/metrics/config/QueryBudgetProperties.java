@@ -0,0 +1,28 @@
+package com.company.university.metrics.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "query-budget")
+@Getter
+@Setter
+public class QueryBudgetProperties {
+    private boolean enabled = true;
+    private QueryBudgetMode mode = QueryBudgetMode.WARN;
+    /** Statements a request may send before it is reported, unless {@link #endpoints} says otherwise. */
+    private int defaultLimit = 20;
+    /** How often one statement may repeat within a request before it is reported as a likely N+1. */
+    private int repeatedStatementThreshold = 10;
+    /** Per-endpoint limits keyed by method and URI template, e.g. {@code query-budget.endpoints[GET:/api/lectures]=5}. */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int limitFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultLimit);
+    }
+}
@@ -0,0 +1,15 @@
+package com.company.university.outbox.application;
+
+import com.company.university.outbox.domain.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Durable destination of relayed events, e.g. a message broker. Every sink bean receives each batch before
+ * the batch is removed from the outbox; throwing keeps it there, so sinks get every event at least once
+ * and must tolerate redelivery.
+ */
+public interface DomainEventSink {
+
+    void publish(List<DomainEvent> events);
+}
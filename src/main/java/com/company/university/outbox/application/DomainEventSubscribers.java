@@ -0,0 +1,55 @@
+package com.company.university.outbox.application;
+
+import com.company.university.outbox.domain.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process subscriptions to the relayed events. Subscribers are called on the relay thread after the batch
+ * was committed, in id order, and only see the events relayed by this instance. They must return quickly;
+ * anything slow belongs on another thread. A failing subscriber is logged and skipped, it neither stops
+ * the other subscribers nor gets the event again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventSubscribers {
+
+    static final String SUBSCRIBER_FAILURES = "university.outbox.subscriber.failures";
+
+    private final List<Consumer<DomainEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Subscribes to every event relayed from now on, until the returned subscription is closed.
+     */
+    public Subscription subscribe(Consumer<DomainEvent> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    public void dispatch(List<DomainEvent> events) {
+        for (Consumer<DomainEvent> subscriber : subscribers) {
+            for (DomainEvent event : events) {
+                try {
+                    subscriber.accept(event);
+                } catch (RuntimeException e) {
+                    log.warn("Subscriber failed on event {}", event.id(), e);
+                    meterRegistry.counter(SUBSCRIBER_FAILURES).increment();
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,65 @@
+package com.company.university.outbox.application;
+
+import com.company.university.outbox.config.OutboxFileSinkProperties;
+import com.company.university.outbox.domain.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Appends the events as JSON lines to {@code outbox.file-sink.path}, forcing each batch to disk before
+ * the relay commits. A stand-in for a broker, and a replayable log for local consumers.
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.file-sink", name = "enabled", havingValue = "true")
+public class FileDomainEventSink implements DomainEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public FileDomainEventSink(OutboxFileSinkProperties properties, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.channel = FileChannel.open(Path.of(properties.getPath()), CREATE, WRITE, APPEND);
+    }
+
+    @Override
+    public synchronized void publish(List<DomainEvent> events) {
+        StringBuilder lines = new StringBuilder(events.size() * 160);
+        for (DomainEvent event : events) {
+            try {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize event " + event.id(), e);
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.university.outbox.application;
+
+import com.company.university.outbox.config.OutboxRelayProperties;
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Drains the outbox in batches: each batch goes to the sinks in its own transaction, then to the in-process
+ * subscribers once committed. A failed batch stays in the outbox and is retried on the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final String RELAYED = "university.outbox.relayed";
+    static final String RELAY_FAILURES = "university.outbox.relay.failures";
+
+    private final OutboxService outboxService;
+    private final DomainEventSubscribers subscribers;
+    private final OutboxRelayProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        for (int run = 0; run < properties.getMaxBatchesPerRun(); run++) {
+            List<DomainEvent> batch;
+            try {
+                batch = outboxService.relayBatch(properties.getBatchSize());
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, retrying on the next run", e);
+                meterRegistry.counter(RELAY_FAILURES).increment();
+                return;
+            }
+
+            meterRegistry.counter(RELAYED).increment(batch.size());
+            subscribers.dispatch(batch);
+            if (batch.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.company.university.outbox.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "outbox.file-sink")
+@Getter
+@Setter
+public class OutboxFileSinkProperties {
+    private boolean enabled;
+    private String path = "outbox-events.jsonl";
+}
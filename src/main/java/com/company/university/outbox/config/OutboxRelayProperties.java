@@ -0,0 +1,20 @@
+package com.company.university.outbox.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "outbox.relay")
+@Getter
+@Setter
+public class OutboxRelayProperties {
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private long pollIntervalMs = 500;
+    /**
+     * Caps one relay run, so a large backlog does not hold the shared scheduler thread for long.
+     */
+    private int maxBatchesPerRun = 20;
+}
@@ -0,0 +1,19 @@
+package com.company.university.outbox.domain;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * A relayed domain event. Ids follow the order the events were written, which for concurrent transactions
+ * need not be the order they committed in; seat changes of one lecture are serialized by its row lock.
+ */
+public record DomainEvent(
+        long id,
+        DomainEventType type,
+        Long lectureId,
+        Long studentId,
+        @JsonRawValue String payload,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.company.university.outbox.domain;
+
+public enum DomainEventType {
+    LECTURE_CREATED,
+    LECTURE_UPDATED,
+    /** Also ends every enrollment and waitlist entry of the lecture, no separate events are written for those. */
+    LECTURE_DELETED,
+    STUDENT_ENROLLED,
+    STUDENT_WAITLISTED,
+    STUDENT_UNENROLLED,
+    STUDENT_LEFT_WAITLIST
+}
@@ -0,0 +1,15 @@
+package com.company.university.outbox.domain;
+
+/**
+ * A domain event not yet written to the outbox. {@code payload} is a JSON document or {@code null}.
+ */
+public record OutboxEvent(DomainEventType type, Long lectureId, Long studentId, String payload) {
+
+    public static OutboxEvent enrollment(DomainEventType type, Long studentId, Long lectureId) {
+        return new OutboxEvent(type, lectureId, studentId, null);
+    }
+
+    public static OutboxEvent lectureDeleted(Long lectureId) {
+        return new OutboxEvent(DomainEventType.LECTURE_DELETED, lectureId, null, null);
+    }
+}
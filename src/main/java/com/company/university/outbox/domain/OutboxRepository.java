@@ -0,0 +1,68 @@
+package com.company.university.outbox.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String APPEND_EVENTS = """
+            INSERT INTO outbox_event (type, lecture_id, student_id, payload)
+            SELECT * FROM unnest(?::varchar[], ?::bigint[], ?::bigint[], ?::jsonb[])
+            """;
+
+    /**
+     * Skips rows claimed by a concurrent relay instead of waiting for it, so several instances can drain in parallel.
+     */
+    private static final String CLAIM_BATCH = """
+            WITH batch AS (
+                SELECT id
+                FROM outbox_event
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            DELETE FROM outbox_event o
+            USING batch
+            WHERE o.id = batch.id
+            RETURNING o.id, o.type, o.lecture_id, o.student_id, o.payload::text AS payload, o.occurred_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void appendAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(APPEND_EVENTS,
+                events.stream().map(event -> event.type().name()).toArray(String[]::new),
+                events.stream().map(OutboxEvent::lectureId).toArray(Long[]::new),
+                events.stream().map(OutboxEvent::studentId).toArray(Long[]::new),
+                events.stream().map(OutboxEvent::payload).toArray(String[]::new));
+    }
+
+    /**
+     * Removes up to {@code limit} of the oldest events and returns them in id order. The removal only sticks
+     * if the surrounding transaction commits, a rollback puts the events back for the next claim.
+     */
+    public List<DomainEvent> claimBatch(int limit) {
+        return jdbcTemplate.query(CLAIM_BATCH,
+                        (rs, rowNum) -> new DomainEvent(
+                                rs.getLong("id"),
+                                DomainEventType.valueOf(rs.getString("type")),
+                                rs.getLong("lecture_id"),
+                                rs.getObject("student_id", Long.class),
+                                rs.getString("payload"),
+                                rs.getObject("occurred_at", LocalDateTime.class)),
+                        limit)
+                .stream()
+                .sorted(Comparator.comparingLong(DomainEvent::id))
+                .toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.company.university.outbox.service;
+
+import com.company.university.lecture.application.LectureMapper;
+import com.company.university.lecture.domain.Lecture;
+import com.company.university.outbox.application.DomainEventSink;
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.domain.DomainEventType;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.domain.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes domain events to the outbox. Appending requires the caller's transaction, so an event is stored
+ * if and only if the change it describes commits.
+ */
+@Service
+@Timed("university.service")
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final List<DomainEventSink> sinks;
+    private final ObjectMapper objectMapper;
+
+    public void append(OutboxEvent event) {
+        outboxRepository.appendAll(List.of(event));
+    }
+
+    public void appendAll(List<OutboxEvent> events) {
+        outboxRepository.appendAll(events);
+    }
+
+    /**
+     * Appends one event per lecture, carrying the lecture as returned by the API.
+     */
+    public void lecturesSaved(DomainEventType type, List<Lecture> lectures) {
+        outboxRepository.appendAll(lectures.stream()
+                .map(lecture -> new OutboxEvent(type, lecture.getId(), null, toJson(lecture)))
+                .toList());
+    }
+
+    /**
+     * Claims the oldest events and hands them to every sink. The events are only removed if all sinks accept them.
+     */
+    @Transactional
+    public List<DomainEvent> relayBatch(int limit) {
+        List<DomainEvent> batch = outboxRepository.claimBatch(limit);
+        if (!batch.isEmpty()) {
+            sinks.forEach(sink -> sink.publish(batch));
+        }
+        return batch;
+    }
+
+    private String toJson(Lecture lecture) {
+        try {
+            return objectMapper.writeValueAsString(LectureMapper.findLectureResponse(lecture));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize lecture " + lecture.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.university.search.application;
+
+public class IncorrectSearchQueryException extends RuntimeException {
+    public IncorrectSearchQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.university.search.application;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last hit returned by a ranked search page: the {@code (score, id)} tuple the next page
+ * has to seek past. Scores are rounded in SQL, so the decimal survives the round trip exactly.
+ * Travels to the client as an opaque Base64 token.
+ */
+public record SearchCursor(BigDecimal score, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = score.toPlainString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IncorrectSearchQueryException("Invalid cursor: " + token);
+            }
+            return new SearchCursor(new BigDecimal(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IncorrectSearchQueryException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.company.university.search.application;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * User search input prepared for PostgreSQL: the trimmed text for trigram matching and a {@code tsquery}
+ * that prefix-matches every whitespace separated term. Operator characters are stripped from the terms,
+ * so input can never change the structure of the {@code tsquery}.
+ * <p>
+ * A search ranks at most {@link #MAX_CANDIDATES} matches, the ones with the lowest ids; matches past them are
+ * never scored or returned. The first {@link #CANDIDATE_SCAN_ROWS} rows are read in id order, the rest of the
+ * table only through the indexes.
+ */
+public record SearchQuery(String text, String tsQuery) {
+
+    public static final int MIN_LENGTH = 3;
+    public static final int MAX_LENGTH = 100;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_CANDIDATES = 500;
+    public static final int CANDIDATE_SCAN_ROWS = 10_000;
+
+    private static final String TS_QUERY_OPERATORS = "[&|!():*'\\\\<>]";
+
+    public static SearchQuery parse(String query) {
+        String text = query == null ? "" : query.trim();
+        if (text.length() < MIN_LENGTH || text.length() > MAX_LENGTH) {
+            throw new IncorrectSearchQueryException(
+                    "Search query must be between " + MIN_LENGTH + " and " + MAX_LENGTH + " characters long");
+        }
+
+        String tsQuery = Arrays.stream(text.split("\\s+"))
+                .map(term -> term.replaceAll(TS_QUERY_OPERATORS, "").toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return new SearchQuery(text, tsQuery.isEmpty() ? null : tsQuery);
+    }
+
+    public static void validatePageSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IncorrectSearchQueryException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
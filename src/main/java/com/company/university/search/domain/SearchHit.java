@@ -0,0 +1,8 @@
+package com.company.university.search.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * One search result with the score it was ranked by, the score is part of the keyset position.
+ */
+public record SearchHit<T>(T item, BigDecimal score) { }
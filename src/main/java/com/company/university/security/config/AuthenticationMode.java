@@ -0,0 +1,10 @@
+package com.company.university.security.config;
+
+public enum AuthenticationMode {
+    /** Loads the user and roles from the database on every request. */
+    DATABASE,
+    /** Loads the user and roles through the short-lived {@code UserRolesCache}. */
+    CACHED,
+    /** Trusts the {@code roles} claim of the verified token, no lookup at all. */
+    CLAIMS
+}
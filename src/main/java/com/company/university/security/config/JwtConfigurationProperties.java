@@ -14,4 +14,9 @@ public class JwtConfigurationProperties {
     private String issuer;
     private String milliseconds;
     private long expirationMs;
+    private long cacheMaxSize = 10_000;
+    private long cacheTtlMs = 300_000;
+    private AuthenticationMode authenticationMode = AuthenticationMode.DATABASE;
+    private long userCacheMaxSize = 10_000;
+    private long userCacheTtlMs = 30_000;
 }
@@ -1,6 +1,12 @@
 package com.company.university.security.jwt;
 
+import com.company.university.security.config.JwtConfigurationProperties;
+import com.company.university.security.domain.Role;
 import com.company.university.security.repository.UserRepository;
+import com.company.university.security.service.UserRolesCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +20,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
@@ -22,6 +30,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final UserRolesCache userRolesCache;
+    private final JwtConfigurationProperties properties;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -34,22 +45,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        final String token = authHeader.substring(7);
-        final String username = jwtService.extractUsername(token);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            outcome = authenticate(authHeader.substring(7));
+        } finally {
+            sample.stop(meterRegistry.timer("university.jwt.authentication",
+                    "mode", properties.getAuthenticationMode().name(),
+                    "outcome", outcome));
+        }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var user = userRepository.findByUsername(username).orElse(null);
+        filterChain.doFilter(request, response);
+    }
 
-            if (user != null && jwtService.isTokenValid(token, username)) {
-                var authorities = user.getRoles().stream()
-                        .map(r -> new SimpleGrantedAuthority(r.getName()))
-                        .collect(Collectors.toList());
+    private String authenticate(String token) {
+        final Claims claims = jwtService.extractAllClaims(token);
+        final String username = claims.getSubject();
 
-                var authToken = new UsernamePasswordAuthenticationToken(username, null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "skipped";
         }
 
-        filterChain.doFilter(request, response);
+        var roles = resolveRoles(claims, username);
+        if (roles.isEmpty() || !jwtService.isTokenValid(claims, username)) {
+            return "rejected";
+        }
+
+        var authorities = roles.get().stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        var authToken = new UsernamePasswordAuthenticationToken(username, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return "authenticated";
+    }
+
+    private Optional<? extends Collection<String>> resolveRoles(Claims claims, String username) {
+        return switch (properties.getAuthenticationMode()) {
+            case CLAIMS -> Optional.of(jwtService.extractRoles(claims));
+            case CACHED -> userRolesCache.getRoles(username);
+            case DATABASE -> userRepository.findByUsername(username)
+                    .map(user -> user.getRoles().stream().map(Role::getName).toList());
+        };
     }
-}
\ No newline at end of file
+}
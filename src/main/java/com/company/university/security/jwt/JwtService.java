@@ -1,22 +1,55 @@
 package com.company.university.security.jwt;
 
 import com.company.university.security.config.JwtConfigurationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
     private final JwtConfigurationProperties properties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+    private final Timer verifyTimer;
 
-    public JwtService(JwtConfigurationProperties properties) {
+    public JwtService(JwtConfigurationProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
+        this.signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfter(Expiry.creating((String tokenHash, Claims claims) -> cacheTimeToLive(claims)))
+                .recordStats()
+                .build();
+        this.verifyTimer = Timer.builder("university.jwt.verify")
+                .description("Signature verification and parsing of tokens missing from the claims cache")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-claims");
     }
 
 
@@ -30,33 +63,69 @@ public class JwtService {
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
                 .issuer(properties.getIssuer())
-                .signWith(Jwts.KEY.A128KW.key().build())
+                .signWith(signingKey)
                 .compact();
     }
 
     private Jws<Claims> parseToken(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(Jwts.KEY.A128KW.key().build())
-                .build()
-                .parseSignedClaims(token);
-        }
+        return parser.parseSignedClaims(token);
+    }
 
     public String extractUsername(String token) {
-        return parseToken(token).getPayload().getSubject();
+        return extractAllClaims(token).getSubject();
+    }
+
+    public Set<String> extractRoles(Claims claims) {
+        String roles = claims.get("roles", String.class);
+        if (roles == null || roles.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     public boolean isTokenValid(String token, String username) {
-        String tokenUsername = extractUsername(token);
-        return username.equals(tokenUsername) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), username);
+    }
+
+    public boolean isTokenValid(Claims claims, String username) {
+        return username.equals(claims.getSubject()) && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = parseToken(token).getPayload().getExpiration();
+    private boolean isTokenExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
         return expiration.before(new Date());
     }
 
+    /**
+     * Verifies the token once and serves the resulting claims from a bounded cache keyed by the token hash,
+     * until the token expires or the cache TTL passes, whichever comes first.
+     */
     public Claims extractAllClaims(String token) {
-        return parseToken(token).getPayload();
+        return verifiedTokens.get(hash(token), tokenHash -> verifyTimer.record(() -> parseToken(token).getPayload()));
+    }
+
+    private Duration cacheTimeToLive(Claims claims) {
+        Duration maxTtl = Duration.ofMillis(properties.getCacheTtlMs());
+        if (claims.getExpiration() == null) {
+            return maxTtl;
+        }
+
+        Duration untilExpiration = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        if (untilExpiration.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiration.compareTo(maxTtl) < 0 ? untilExpiration : maxTtl;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
-}
\ No newline at end of file
+}
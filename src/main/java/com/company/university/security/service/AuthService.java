@@ -7,6 +7,7 @@ import com.company.university.security.dto.AuthResponse;
 import com.company.university.security.jwt.JwtService;
 import com.company.university.security.repository.RoleRepository;
 import com.company.university.security.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("university.service")
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -22,6 +24,7 @@ public class AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final UserRolesCache userRolesCache;
 
     public AuthResponse register(String username, String password, Set<String> roleNames) {
         var roles = roleNames.stream()
@@ -36,6 +39,7 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        userRolesCache.invalidate(username);
 
         var token = jwtService.generateToken(username, roleNames);
         return new AuthResponse(token);
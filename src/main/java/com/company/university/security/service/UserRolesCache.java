@@ -0,0 +1,61 @@
+package com.company.university.security.service;
+
+import com.company.university.security.config.JwtConfigurationProperties;
+import com.company.university.security.domain.Role;
+import com.company.university.security.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived username to role names cache used by {@code AuthenticationMode.CACHED}.
+ * Role changes become visible after the TTL at the latest, or immediately after {@link #invalidate(String)}.
+ */
+@Component
+public class UserRolesCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Set<String>> roles;
+
+    public UserRolesCache(UserRepository userRepository, JwtConfigurationProperties properties) {
+        this.userRepository = userRepository;
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(properties.getUserCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getUserCacheTtlMs()))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, roles, "user-roles");
+    }
+
+    public Optional<Set<String>> getRoles(String username) {
+        return Optional.ofNullable(roles.get(username, this::loadRoles));
+    }
+
+    public void invalidate(String username) {
+        roles.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        roles.invalidateAll();
+    }
+
+    private Set<String> loadRoles(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> user.getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toUnmodifiableSet()))
+                .orElse(null);
+    }
+}
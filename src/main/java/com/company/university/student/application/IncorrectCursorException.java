@@ -0,0 +1,7 @@
+package com.company.university.student.application;
+
+public class IncorrectCursorException extends RuntimeException {
+    public IncorrectCursorException(String message) {
+        super(message);
+    }
+}
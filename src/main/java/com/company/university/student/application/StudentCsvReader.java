@@ -0,0 +1,219 @@
+package com.company.university.student.application;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming RFC 4180 reader for student rosters. Only the current record is held in memory, so files of any size
+ * are read in constant space. Quoted fields may contain commas, doubled quotes and line breaks; blank lines are skipped.
+ * <p>
+ * The first record is the header. Columns are matched by name, case-insensitively, in any order:
+ * {@code name}, {@code surname}, {@code email} and {@code dateOfBirth} are required, {@code studentNumber} is optional.
+ */
+public class StudentCsvReader {
+
+    public static final int MAX_RECORD_LENGTH = 16_384;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "surname", "email", "dateOfBirth");
+    private static final List<String> COLUMNS = List.of("name", "surname", "email", "dateOfBirth", "studentNumber");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int position;
+    private int limit;
+    private long line = 1;
+    private int columnCount;
+
+    public StudentCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public Stream<StudentCsvRow> rows() {
+        readHeader();
+
+        Iterator<StudentCsvRow> iterator = new Iterator<>() {
+            private StudentCsvRow next = readRow();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public StudentCsvRow next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                StudentCsvRow row = next;
+                next = readRow();
+                return row;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    private void readHeader() {
+        Record record = readRecord();
+        if (record == null) {
+            throw new StudentImportException("CSV file is empty");
+        }
+
+        List<String> values = record.values();
+        if (!values.isEmpty() && values.getFirst().startsWith("\uFEFF")) {
+            values.set(0, values.getFirst().substring(1));
+        }
+        for (int i = 0; i < values.size(); i++) {
+            String header = values.get(i).trim();
+            String column = COLUMNS.stream()
+                    .filter(header::equalsIgnoreCase)
+                    .findFirst()
+                    .orElseThrow(() -> new StudentImportException("Unknown CSV column: " + header));
+            if (columns.put(column, i) != null) {
+                throw new StudentImportException("Duplicate CSV column: " + header);
+            }
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new StudentImportException("Missing CSV columns: " + String.join(", ", missing));
+        }
+        columnCount = values.size();
+    }
+
+    private StudentCsvRow readRow() {
+        Record record = readRecord();
+        if (record == null) {
+            return null;
+        }
+
+        List<String> values = record.values();
+        if (values.size() != columnCount) {
+            return StudentCsvRow.malformed(record.line(),
+                    "Expected " + columnCount + " columns but found " + values.size());
+        }
+        return new StudentCsvRow(
+                record.line(),
+                value(values, "name"),
+                value(values, "surname"),
+                value(values, "email"),
+                value(values, "dateOfBirth"),
+                value(values, "studentNumber"),
+                null
+        );
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Record readRecord() {
+        try {
+            while (true) {
+                if (peek() == -1) {
+                    return null;
+                }
+                Record record = readFields();
+                if (record.values().size() > 1 || !record.values().getFirst().isEmpty()) {
+                    return record;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Record readFields() throws IOException {
+        long startLine = line;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new StudentImportException("Unterminated quoted field starting on line " + startLine);
+                }
+                values.add(field.toString());
+                return new Record(startLine, values);
+            }
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new StudentImportException(
+                        "Record on line " + startLine + " is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+
+            if (quoted) {
+                if (c == '"' && peek() == '"') {
+                    read();
+                    field.append('"');
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> quoted = true;
+                case ',' -> {
+                    values.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r', '\n' -> {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    line++;
+                    values.add(field.toString());
+                    return new Record(startLine, values);
+                }
+                default -> field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    private record Record(long line, List<String> values) { }
+}
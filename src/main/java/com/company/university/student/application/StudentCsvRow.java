@@ -0,0 +1,20 @@
+package com.company.university.student.application;
+
+/**
+ * Raw, trimmed values of one roster row; blank cells are {@code null}.
+ * {@code error} is set when the row could not be split into the header's columns.
+ */
+public record StudentCsvRow(
+        long line,
+        String name,
+        String surname,
+        String email,
+        String dateOfBirth,
+        String studentNumber,
+        String error
+) {
+
+    static StudentCsvRow malformed(long line, String error) {
+        return new StudentCsvRow(line, null, null, null, null, null, error);
+    }
+}
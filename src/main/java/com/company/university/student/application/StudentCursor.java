@@ -0,0 +1,47 @@
+package com.company.university.student.application;
+
+import com.company.university.student.dto.FindStudentResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last student returned by a keyset page: the sort field, the direction
+ * and the {@code (sortKey, id)} tuple the next page has to seek past.
+ * Travels to the client as an opaque Base64 token.
+ */
+public record StudentCursor(String sortBy, String direction, String key, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static StudentCursor of(String sortBy, String direction, FindStudentResponse last) {
+        String key = switch (sortBy) {
+            case "name" -> last.getName();
+            case "surname" -> last.getSurname();
+            default -> String.valueOf(last.getId());
+        };
+        return new StudentCursor(sortBy, direction.toLowerCase(), key, last.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortBy, direction, String.valueOf(id), key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StudentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IncorrectCursorException("Invalid cursor: " + token);
+            }
+            return new StudentCursor(parts[0], parts[1], parts[3], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IncorrectCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    public boolean isDescending() {
+        return direction.equalsIgnoreCase("desc");
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.university.student.application;
+
+public class StudentImportException extends RuntimeException {
+    public StudentImportException(String message) {
+        super(message);
+    }
+}
@@ -44,6 +44,7 @@ public class StudentMapper {
                 .status(student.getStatus())
                 .email(student.getEmail())
                 .dateOfBirth(student.getDateOfBirth())
+                .version(student.getVersion())
                 .build();
     }
 
@@ -55,6 +56,7 @@ public class StudentMapper {
                 .status(student.getStatus())
                 .email(student.getEmail())
                 .createdAt(student.getCreatedAt())
+                .version(student.getVersion())
                 .build();
     }
 
@@ -2,6 +2,7 @@ package com.company.university.student.application;
 
 import com.company.university.lecture.domain.Lecture;
 import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.metrics.ValidationMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +12,14 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class StudentValidator {
     private final LectureRepository lectureRepository;
+    private final ValidationMetrics validationMetrics;
 
     public void validatePaginationAndSorting(int page, int size, String sortBy, String direction) {
         if (page < 0) throw new StudentPageMoreThanZeroException("Page index must not be negative");
+        validateSizeAndSorting(size, sortBy, direction);
+    }
+
+    public void validateSizeAndSorting(int size, String sortBy, String direction) {
         if (size <= 0) throw new StudentPageSizeMoreThanZeroException("Page size must be greater than zero");
 
         Set<String> ALLOWED_SORT_FIELDS = Set.of("id", "name", "surname");
@@ -36,7 +42,9 @@ public class StudentValidator {
         );
 
         if (hasConflict) {
+            validationMetrics.rejected("student-schedule-conflict");
             throw new StudentScheduleConflictException("Student has a schedule conflict!");
         }
+        validationMetrics.passed("student-schedule-conflict");
     }
 }
@@ -0,0 +1,19 @@
+package com.company.university.student.domain;
+
+import java.time.LocalDateTime;
+
+public record EnrollmentCandidate(
+        Long studentId,
+        Long lectureId,
+        boolean studentExists,
+        boolean lectureExists,
+        boolean alreadyEnrolled,
+        boolean conflicting,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime
+) {
+
+    public boolean overlaps(EnrollmentCandidate other) {
+        return startDateTime.isBefore(other.endDateTime) && endDateTime.isAfter(other.startDateTime);
+    }
+}
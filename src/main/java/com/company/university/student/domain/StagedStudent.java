@@ -0,0 +1,22 @@
+package com.company.university.student.domain;
+
+import java.time.LocalDate;
+
+/**
+ * One CSV row on its way into the import staging table. Rows that already failed format checks
+ * carry a {@code rejectReason} and are staged only so they show up in the import report.
+ */
+public record StagedStudent(
+        long line,
+        String name,
+        String surname,
+        String email,
+        String studentNumber,
+        LocalDate dateOfBirth,
+        String rejectReason
+) {
+
+    public static StagedStudent rejected(long line, String rejectReason) {
+        return new StagedStudent(line, null, null, null, null, null, rejectReason);
+    }
+}
@@ -0,0 +1,219 @@
+package com.company.university.student.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Set-based access to {@code student_lecture}, lecture seat counters and the lecture waitlist, bypassing the
+ * {@code Student.lectures} collection so enrollments never hydrate entities.
+ * Seats are taken and given back with conditional updates on the lecture row, never by counting enrollments.
+ * Those updates also bump the lecture version, so its ETag changes with {@code seatsTaken}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentEnrollmentRepository {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String FIND_CANDIDATES = """
+            SELECT p.student_id,
+                   p.lecture_id,
+                   s.id IS NOT NULL AS student_exists,
+                   l.id IS NOT NULL AS lecture_exists,
+                   EXISTS (SELECT 1 FROM student_lecture sl
+                           WHERE sl.student_id = p.student_id
+                             AND sl.lecture_id = p.lecture_id) AS already_enrolled,
+                   EXISTS (SELECT 1 FROM student_lecture sl
+                           JOIN lecture el ON el.id = sl.lecture_id
+                           WHERE sl.student_id = p.student_id
+                             AND el.id <> l.id
+                             AND el.end_date_time > l.start_date_time
+                             AND el.start_date_time < l.end_date_time) AS conflicting,
+                   l.start_date_time,
+                   l.end_date_time
+            FROM unnest(?::bigint[], ?::bigint[]) AS p(student_id, lecture_id)
+            LEFT JOIN student s ON s.id = p.student_id
+            LEFT JOIN lecture l ON l.id = p.lecture_id
+            """;
+
+    private static final String INSERT_ENROLLMENT = """
+            INSERT INTO student_lecture (student_id, lecture_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_ENROLLMENTS = """
+            INSERT INTO student_lecture (student_id, lecture_id)
+            SELECT * FROM unnest(?::bigint[], ?::bigint[])
+            ON CONFLICT DO NOTHING
+            RETURNING student_id, lecture_id
+            """;
+
+    private static final String EXISTS_ENROLLMENT = """
+            SELECT EXISTS (SELECT 1 FROM student_lecture WHERE student_id = ? AND lecture_id = ?)
+            """;
+
+    private static final String DELETE_ENROLLMENT = """
+            DELETE FROM student_lecture
+            WHERE student_id = ? AND lecture_id = ?
+            """;
+
+    private static final String DELETE_ENROLLMENTS_OF_STUDENT = """
+            DELETE FROM student_lecture
+            WHERE student_id = ?
+            RETURNING lecture_id
+            """;
+
+    private static final String RESERVE_SEAT = """
+            UPDATE lecture
+            SET seats_taken = seats_taken + 1,
+                version = version + 1
+            WHERE id = ?
+              AND (capacity IS NULL OR seats_taken < capacity)
+            """;
+
+    private static final String RESERVE_SEATS = """
+            WITH granted AS (
+                SELECT id, LEAST(?, COALESCE(capacity - seats_taken, ?)) AS seats
+                FROM lecture
+                WHERE id = ?
+                FOR UPDATE
+            )
+            UPDATE lecture l
+            SET seats_taken = l.seats_taken + g.seats,
+                version = l.version + 1
+            FROM granted g
+            WHERE l.id = g.id
+              AND g.seats > 0
+            RETURNING g.seats
+            """;
+
+    private static final String RELEASE_SEATS = """
+            UPDATE lecture
+            SET seats_taken = GREATEST(seats_taken - ?, 0),
+                version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final String INSERT_WAITLIST = """
+            INSERT INTO lecture_waitlist (lecture_id, student_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_WAITLIST = """
+            DELETE FROM lecture_waitlist
+            WHERE lecture_id = ? AND student_id = ?
+            """;
+
+    private static final String POLL_WAITLIST = """
+            DELETE FROM lecture_waitlist
+            WHERE id = (SELECT id FROM lecture_waitlist
+                        WHERE lecture_id = ?
+                        ORDER BY id
+                        LIMIT 1
+                        FOR UPDATE SKIP LOCKED)
+            RETURNING student_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<EnrollmentCandidate> findCandidates(List<Long> studentIds, List<Long> lectureIds) {
+        return jdbcTemplate.query(FIND_CANDIDATES,
+                (rs, rowNum) -> new EnrollmentCandidate(
+                        rs.getLong("student_id"),
+                        rs.getLong("lecture_id"),
+                        rs.getBoolean("student_exists"),
+                        rs.getBoolean("lecture_exists"),
+                        rs.getBoolean("already_enrolled"),
+                        rs.getBoolean("conflicting"),
+                        rs.getObject("start_date_time", LocalDateTime.class),
+                        rs.getObject("end_date_time", LocalDateTime.class)
+                ),
+                studentIds.toArray(Long[]::new),
+                lectureIds.toArray(Long[]::new));
+    }
+
+    /**
+     * Inserts the enrollments in one statement and returns the ones that were not already present.
+     * Relies on {@code RETURNING} rather than batch update counts, which {@code reWriteBatchedInserts} does not report.
+     */
+    public List<EnrollmentCandidate> insertAll(List<EnrollmentCandidate> enrollments) {
+        Set<List<Long>> inserted = new HashSet<>(jdbcTemplate.query(INSERT_ENROLLMENTS,
+                (rs, rowNum) -> List.of(rs.getLong("student_id"), rs.getLong("lecture_id")),
+                enrollments.stream().map(EnrollmentCandidate::studentId).toArray(Long[]::new),
+                enrollments.stream().map(EnrollmentCandidate::lectureId).toArray(Long[]::new)));
+
+        return enrollments.stream()
+                .filter(enrollment -> inserted.contains(List.of(enrollment.studentId(), enrollment.lectureId())))
+                .toList();
+    }
+
+    public boolean insert(Long studentId, Long lectureId) {
+        return jdbcTemplate.update(INSERT_ENROLLMENT, studentId, lectureId) > 0;
+    }
+
+    public boolean exists(Long studentId, Long lectureId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_ENROLLMENT, Boolean.class, studentId, lectureId));
+    }
+
+    public boolean delete(Long studentId, Long lectureId) {
+        return jdbcTemplate.update(DELETE_ENROLLMENT, studentId, lectureId) > 0;
+    }
+
+    /**
+     * Deletes all enrollments of the student and returns the lectures they were enrolled in.
+     */
+    public List<Long> deleteAllOfStudent(Long studentId) {
+        return jdbcTemplate.queryForList(DELETE_ENROLLMENTS_OF_STUDENT, Long.class, studentId);
+    }
+
+    /**
+     * Takes one seat if the lecture has one left. The capacity check and the increment are a single statement,
+     * so concurrent enrollments only wait for each other's row lock and can never overbook.
+     */
+    public boolean reserveSeat(Long lectureId) {
+        return jdbcTemplate.update(RESERVE_SEAT, lectureId) > 0;
+    }
+
+    /**
+     * Takes up to {@code requested} seats at once and returns how many were granted.
+     */
+    public int reserveSeats(Long lectureId, int requested) {
+        List<Integer> granted = jdbcTemplate.queryForList(RESERVE_SEATS, Integer.class, requested, requested, lectureId);
+        return granted.isEmpty() ? 0 : granted.getFirst();
+    }
+
+    public void releaseSeats(Long lectureId, int released) {
+        jdbcTemplate.update(RELEASE_SEATS, released, lectureId);
+    }
+
+    public void addToWaitlist(Long lectureId, Long studentId) {
+        jdbcTemplate.update(INSERT_WAITLIST, lectureId, studentId);
+    }
+
+    public void addAllToWaitlist(List<EnrollmentCandidate> enrollments) {
+        jdbcTemplate.batchUpdate(INSERT_WAITLIST, enrollments, INSERT_BATCH_SIZE, (ps, enrollment) -> {
+            ps.setLong(1, enrollment.lectureId());
+            ps.setLong(2, enrollment.studentId());
+        });
+    }
+
+    public boolean removeFromWaitlist(Long lectureId, Long studentId) {
+        return jdbcTemplate.update(DELETE_WAITLIST, lectureId, studentId) > 0;
+    }
+
+    /**
+     * Removes and returns the student waiting longest for the lecture.
+     */
+    public Optional<Long> pollWaitlist(Long lectureId) {
+        return jdbcTemplate.queryForList(POLL_WAITLIST, Long.class, lectureId).stream().findFirst();
+    }
+}
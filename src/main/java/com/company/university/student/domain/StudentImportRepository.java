@@ -0,0 +1,195 @@
+package com.company.university.student.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Bulk student import through a transaction-scoped staging table. Rows are streamed in with {@code COPY},
+ * checked for duplicates set-wise and merged into {@code student} with a single statement.
+ * All methods must run in the same transaction, the staging table is dropped when it commits.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentImportRepository {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE student_import (
+                line_no BIGINT PRIMARY KEY,
+                name TEXT,
+                surname TEXT,
+                email TEXT,
+                student_number TEXT,
+                date_of_birth DATE,
+                reject_reason TEXT
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING_TABLE = """
+            COPY student_import (line_no, name, surname, email, student_number, date_of_birth, reject_reason)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String ANALYZE_STAGING_TABLE = "ANALYZE student_import";
+
+    private static final String REJECT_DUPLICATES = """
+            UPDATE student_import i
+            SET reject_reason = d.reason
+            FROM (
+                SELECT c.line_no,
+                       CASE
+                           WHEN se.id IS NOT NULL THEN 'Email already exists'
+                           WHEN sn.id IS NOT NULL THEN 'Student number already exists'
+                           WHEN c.line_no > min(c.line_no) OVER (PARTITION BY c.email)
+                               THEN 'Duplicate email, first used on line ' || min(c.line_no) OVER (PARTITION BY c.email)
+                           WHEN c.student_number IS NOT NULL
+                                AND c.line_no > min(c.line_no) OVER (PARTITION BY c.student_number)
+                               THEN 'Duplicate student number, first used on line '
+                                        || min(c.line_no) OVER (PARTITION BY c.student_number)
+                       END AS reason
+                FROM student_import c
+                LEFT JOIN student se ON se.email = c.email
+                LEFT JOIN student sn ON sn.student_number = c.student_number
+                WHERE c.reject_reason IS NULL
+            ) d
+            WHERE i.line_no = d.line_no
+              AND d.reason IS NOT NULL
+            """;
+
+    /**
+     * Takes ids in whole {@code student_seq} blocks, the same way Hibernate's pooled optimizer does,
+     * instead of spending one block per row through the column default.
+     */
+    private static final String MERGE_INTO_STUDENT = """
+            WITH accepted AS (
+                SELECT i.*, row_number() OVER (ORDER BY i.line_no) AS n
+                FROM student_import i
+                WHERE i.reject_reason IS NULL
+            ),
+            blocks AS (
+                SELECT nextval('student_seq') AS last_id
+                FROM generate_series(1, (SELECT ceil(count(*) / ?::numeric)::int FROM accepted))
+            ),
+            ids AS (
+                SELECT b.last_id - ? + k AS id, row_number() OVER (ORDER BY b.last_id, k) AS n
+                FROM blocks b, generate_series(1, ?) AS k
+            ),
+            inserted AS (
+                INSERT INTO student (id, name, surname, email, date_of_birth, student_number, status, created_at, version)
+                SELECT ids.id, a.name, a.surname, a.email, a.date_of_birth,
+                       COALESCE(a.student_number, gen_random_uuid()::text), 'ACTIVE', LOCALTIMESTAMP, 0
+                FROM accepted a
+                JOIN ids ON ids.n = a.n
+                ORDER BY a.line_no
+                ON CONFLICT DO NOTHING
+                RETURNING email
+            ),
+            conflicting AS (
+                UPDATE student_import i
+                SET reject_reason = 'Conflicts with a student created during the import'
+                WHERE i.reject_reason IS NULL
+                  AND NOT EXISTS (SELECT 1 FROM inserted WHERE inserted.email = i.email)
+            )
+            SELECT count(*) FROM inserted
+            """;
+
+    private static final String FIND_REJECTED = """
+            SELECT line_no, reject_reason
+            FROM student_import
+            WHERE reject_reason IS NOT NULL
+            ORDER BY line_no
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createStagingTable() {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+    }
+
+    /**
+     * Streams the students into the staging table over the transaction's connection and returns how many were copied.
+     * The stream is consumed lazily, so only the copy buffer is held in memory.
+     */
+    public long copy(Stream<StagedStudent> students) {
+        long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            long rows = 0;
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, COPY_STAGING_TABLE, COPY_BUFFER_SIZE),
+                    StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+                for (Iterator<StagedStudent> iterator = students.iterator(); iterator.hasNext(); rows++) {
+                    writeRow(writer, iterator.next());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows;
+        });
+        jdbcTemplate.execute(ANALYZE_STAGING_TABLE);
+        return copied;
+    }
+
+    /**
+     * Rejects staged rows whose email or student number is already taken, either by an existing student
+     * or by an earlier line of the same file.
+     */
+    public int rejectDuplicates() {
+        return jdbcTemplate.update(REJECT_DUPLICATES);
+    }
+
+    /**
+     * Inserts every row that is still accepted and returns how many students were created.
+     * Rows that lose a race against a concurrent insert are rejected instead of failing the import.
+     */
+    public long mergeIntoStudents() {
+        Long inserted = jdbcTemplate.queryForObject(MERGE_INTO_STUDENT, Long.class,
+                Student.ID_ALLOCATION_SIZE, Student.ID_ALLOCATION_SIZE, Student.ID_ALLOCATION_SIZE);
+        return inserted != null ? inserted : 0;
+    }
+
+    public List<StagedStudent> findRejected(int limit) {
+        return jdbcTemplate.query(FIND_REJECTED,
+                (rs, rowNum) -> StagedStudent.rejected(rs.getLong("line_no"), rs.getString("reject_reason")),
+                limit);
+    }
+
+    private void writeRow(Writer writer, StagedStudent student) throws IOException {
+        writer.write(Long.toString(student.line()));
+        writeValue(writer, student.name());
+        writeValue(writer, student.surname());
+        writeValue(writer, student.email());
+        writeValue(writer, student.studentNumber());
+        writeValue(writer, student.dateOfBirth() != null ? student.dateOfBirth().toString() : null);
+        writeValue(writer, student.rejectReason());
+        writer.write('\n');
+    }
+
+    /**
+     * Writes one CSV field for {@code COPY}: {@code null} as an unquoted empty field, everything else quoted.
+     */
+    private void writeValue(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,14 +1,20 @@
 package com.company.university.student.domain;
 
+import com.company.university.student.dto.FindStudentResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
@@ -19,6 +25,33 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
        """)
     Optional<Student> findByIdWithLectures(@Param("id") Long id);
 
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.id = :id
+       """)
+    Optional<FindStudentResponse> findResponseById(@Param("id") Long id);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       """)
+    List<FindStudentResponse> findAllResponses();
+
+    @Query(
+            value = """
+                SELECT new com.company.university.student.dto.FindStudentResponse(
+                    s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+                FROM Student s
+                """,
+            countQuery = """
+                SELECT COUNT(s) FROM Student s
+                """
+    )
+    Page<FindStudentResponse> findResponsePage(Pageable pageable);
+
     @Query("""
        SELECT s FROM Student s
        LEFT JOIN FETCH s.lectures
@@ -27,12 +60,101 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     @Query(
             value = """
-                SELECT DISTINCT s FROM Student s
-                LEFT JOIN FETCH s.lectures
+                SELECT s.id FROM Student s
                 """,
             countQuery = """
                 SELECT COUNT(s) FROM Student s
                 """
     )
-    Page<Student> findAllWithLectures(Pageable pageable);
+    Page<Long> findIds(Pageable pageable);
+
+    @Query("""
+       SELECT DISTINCT s FROM Student s
+       LEFT JOIN FETCH s.lectures
+       WHERE s.id IN :ids
+       """)
+    List<Student> findAllWithLecturesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+       SELECT s FROM Student s
+       ORDER BY s.id
+       """)
+    Stream<Student> streamAll();
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       """)
+    List<FindStudentResponse> findResponses(Pageable pageable);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.id > :lastId
+       ORDER BY s.id ASC
+       """)
+    List<FindStudentResponse> findNextByIdAsc(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.id < :lastId
+       ORDER BY s.id DESC
+       """)
+    List<FindStudentResponse> findNextByIdDesc(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.name > :lastName
+          OR (s.name = :lastName AND s.id > :lastId)
+       ORDER BY s.name ASC, s.id ASC
+       """)
+    List<FindStudentResponse> findNextByNameAsc(@Param("lastName") String lastName,
+                                    @Param("lastId") Long lastId,
+                                    Pageable pageable);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.name < :lastName
+          OR (s.name = :lastName AND s.id < :lastId)
+       ORDER BY s.name DESC, s.id DESC
+       """)
+    List<FindStudentResponse> findNextByNameDesc(@Param("lastName") String lastName,
+                                     @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.surname > :lastSurname
+          OR (s.surname = :lastSurname AND s.id > :lastId)
+       ORDER BY s.surname ASC, s.id ASC
+       """)
+    List<FindStudentResponse> findNextBySurnameAsc(@Param("lastSurname") String lastSurname,
+                                       @Param("lastId") Long lastId,
+                                       Pageable pageable);
+
+    @Query("""
+       SELECT new com.company.university.student.dto.FindStudentResponse(
+           s.id, s.name, s.surname, s.email, s.status, s.dateOfBirth, s.version)
+       FROM Student s
+       WHERE s.surname < :lastSurname
+          OR (s.surname = :lastSurname AND s.id < :lastId)
+       ORDER BY s.surname DESC, s.id DESC
+       """)
+    List<FindStudentResponse> findNextBySurnameDesc(@Param("lastSurname") String lastSurname,
+                                        @Param("lastId") Long lastId,
+                                        Pageable pageable);
 }
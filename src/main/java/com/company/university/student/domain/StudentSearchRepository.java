@@ -0,0 +1,110 @@
+package com.company.university.student.domain;
+
+import com.company.university.search.application.SearchCursor;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Ranked student search over the {@code search_vector} and {@code search_text} columns maintained by the database.
+ * Prefix matches on names, emails and student numbers come from the full-text index; the trigram index over names
+ * is only consulted for substring and typo matches when those yield less than a page.
+ * <p>
+ * Only the first {@link SearchQuery#MAX_CANDIDATES} matches in id order are scored, so ranking costs the same
+ * however common the term is. Common terms fill the candidates while walking the primary key over the first
+ * {@link SearchQuery#CANDIDATE_SCAN_ROWS} rows; rarer ones are looked up past that window in the full-text index.
+ * {@code id + 0} keeps the planner on that index instead of walking the primary key over the whole table. The
+ * candidates depend on the query alone, so keyset paging on {@code (score DESC, id)} runs inside the same set on
+ * every page. Typo matches still recheck every trigram index hit, so they cost more on large tables.
+ * Pages never hydrate entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentSearchRepository {
+
+    private static final String SEARCH = """
+            WITH params AS MATERIALIZED (
+                SELECT to_tsquery('simple', ?) AS query, ?::text AS text
+            ),
+            head AS MATERIALIZED (
+                SELECT s.id
+                FROM (SELECT id, search_vector FROM student ORDER BY id LIMIT ?) s, params p
+                WHERE s.search_vector @@ p.query
+                LIMIT ?
+            ),
+            tail AS MATERIALIZED (
+                SELECT s.id
+                FROM student s, params p
+                WHERE (SELECT count(*) FROM head) < ?
+                  AND s.id + 0 > (SELECT id FROM student ORDER BY id OFFSET ? LIMIT 1)
+                  AND s.search_vector @@ p.query
+                ORDER BY s.id + 0
+                LIMIT ?
+            ),
+            fuzzy AS MATERIALIZED (
+                SELECT s.id
+                FROM student s, params p
+                WHERE (SELECT count(*) FROM head) + (SELECT count(*) FROM tail) < ?
+                  AND p.text <% s.search_text
+                  AND NOT COALESCE(s.search_vector @@ p.query, false)
+                ORDER BY s.id + 0
+                LIMIT ?
+            ),
+            candidates AS (
+                SELECT id FROM head
+                UNION ALL
+                SELECT id FROM tail
+                UNION ALL
+                SELECT id FROM fuzzy
+                ORDER BY id
+                LIMIT ?
+            ),
+            ranked AS (
+                SELECT s.id, s.name, s.surname, s.email, s.status, s.date_of_birth, s.version,
+                       round((COALESCE(ts_rank(s.search_vector, p.query), 0)
+                              + word_similarity(p.text, s.search_text))::numeric, 6) AS score
+                FROM candidates c
+                JOIN student s ON s.id = c.id
+                CROSS JOIN params p
+            )
+            SELECT *
+            FROM ranked
+            WHERE ?::numeric IS NULL
+               OR score < ?::numeric
+               OR (score = ?::numeric AND id > ?)
+            ORDER BY score DESC, id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SearchHit<Student>> search(SearchQuery query, SearchCursor after, int limit) {
+        BigDecimal score = after != null ? after.score() : null;
+        Long id = after != null ? after.id() : null;
+
+        return jdbcTemplate.query(SEARCH,
+                (rs, rowNum) -> new SearchHit<>(
+                        Student.builder()
+                                .id(rs.getLong("id"))
+                                .name(rs.getString("name"))
+                                .surname(rs.getString("surname"))
+                                .email(rs.getString("email"))
+                                .status(rs.getString("status") != null ? StudentStatus.valueOf(rs.getString("status")) : null)
+                                .dateOfBirth(rs.getObject("date_of_birth", LocalDate.class))
+                                .version(rs.getLong("version"))
+                                .build(),
+                        rs.getBigDecimal("score")),
+                query.tsQuery(), query.text(),
+                SearchQuery.CANDIDATE_SCAN_ROWS, SearchQuery.MAX_CANDIDATES,
+                SearchQuery.MAX_CANDIDATES, SearchQuery.CANDIDATE_SCAN_ROWS - 1, SearchQuery.MAX_CANDIDATES,
+                limit, SearchQuery.MAX_CANDIDATES,
+                SearchQuery.MAX_CANDIDATES,
+                score, score, score, id, limit);
+    }
+}
@@ -0,0 +1,10 @@
+package com.company.university.student.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record CreateStudentsRequest(
+        @NotEmpty
+        List<CreateStudentRequest> students
+) { }
@@ -0,0 +1,8 @@
+package com.company.university.student.dto;
+
+import java.util.List;
+
+public record CreateStudentsResponse(
+        int created,
+        List<Long> ids
+) { }
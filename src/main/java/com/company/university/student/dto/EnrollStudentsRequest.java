@@ -0,0 +1,18 @@
+package com.company.university.student.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record EnrollStudentsRequest(
+        @NotEmpty
+        List<@Valid @NotNull Enrollment> enrollments
+) {
+
+    public record Enrollment(
+            @NotNull Long studentId,
+            @NotNull Long lectureId
+    ) { }
+}
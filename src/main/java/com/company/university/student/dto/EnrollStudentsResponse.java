@@ -0,0 +1,16 @@
+package com.company.university.student.dto;
+
+import java.util.List;
+
+public record EnrollStudentsResponse(
+        int enrolled,
+        int rejected,
+        List<EnrollmentResult> results
+) {
+
+    public record EnrollmentResult(
+            Long studentId,
+            Long lectureId,
+            EnrollmentStatus status
+    ) { }
+}
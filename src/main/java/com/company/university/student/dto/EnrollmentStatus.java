@@ -0,0 +1,10 @@
+package com.company.university.student.dto;
+
+public enum EnrollmentStatus {
+    ENROLLED,
+    WAITLISTED,
+    ALREADY_ENROLLED,
+    SCHEDULE_CONFLICT,
+    STUDENT_NOT_FOUND,
+    LECTURE_NOT_FOUND
+}
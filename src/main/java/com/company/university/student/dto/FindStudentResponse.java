@@ -1,6 +1,7 @@
 package com.company.university.student.dto;
 
 import com.company.university.student.domain.StudentStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDate;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class FindStudentResponse {
     private Long id;
     private String name;
@@ -15,4 +17,5 @@ public class FindStudentResponse {
     private String email;
     private StudentStatus status;
     private LocalDate dateOfBirth;
+    private Long version;
 }
\ No newline at end of file
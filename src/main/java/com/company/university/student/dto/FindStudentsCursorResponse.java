@@ -0,0 +1,15 @@
+package com.company.university.student.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FindStudentsCursorResponse {
+    private List<FindStudentResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
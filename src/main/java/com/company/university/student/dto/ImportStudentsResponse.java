@@ -0,0 +1,9 @@
+package com.company.university.student.dto;
+
+import java.util.List;
+
+public record ImportStudentsResponse(
+        long imported,
+        long rejected,
+        List<RejectedStudentRow> rejects
+) { }
@@ -0,0 +1,6 @@
+package com.company.university.student.dto;
+
+public record RejectedStudentRow(
+        long line,
+        String reason
+) { }
@@ -16,4 +16,5 @@ public class UpdateStudentResponse {
     private String email;
     private StudentStatus status;;
     private LocalDateTime createdAt;
+    private Long version;
 }
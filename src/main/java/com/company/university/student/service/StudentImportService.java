@@ -0,0 +1,92 @@
+package com.company.university.student.service;
+
+import com.company.university.student.application.StudentCsvReader;
+import com.company.university.student.application.StudentCsvRow;
+import com.company.university.student.domain.StagedStudent;
+import com.company.university.student.domain.StudentImportRepository;
+import com.company.university.student.dto.ImportStudentsResponse;
+import com.company.university.student.dto.RejectedStudentRow;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Imports student rosters from CSV. Rows are format-checked while the file is parsed and streamed straight into
+ * a staging table, uniqueness is checked and the students are created set-wise in the database,
+ * so neither the file nor its rows are ever held in memory.
+ * A structurally broken file fails the whole import, invalid rows are skipped and reported.
+ */
+@Service
+@Timed("university.service")
+@RequiredArgsConstructor
+@Transactional
+public class StudentImportService {
+
+    public static final int MAX_REPORTED_REJECTS = 1_000;
+
+    private static final int MAX_VALUE_LENGTH = 255;
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final StudentImportRepository importRepository;
+
+    /**
+     * Reports every rejected row in the counts, but lists at most {@value #MAX_REPORTED_REJECTS} of them.
+     */
+    public ImportStudentsResponse importStudents(Reader csv) {
+        importRepository.createStagingTable();
+
+        long staged = importRepository.copy(new StudentCsvReader(csv).rows().map(this::toStagedStudent));
+        importRepository.rejectDuplicates();
+        long imported = importRepository.mergeIntoStudents();
+
+        List<RejectedStudentRow> rejects = importRepository.findRejected(MAX_REPORTED_REJECTS)
+                .stream()
+                .map(row -> new RejectedStudentRow(row.line(), row.rejectReason()))
+                .toList();
+        return new ImportStudentsResponse(imported, staged - imported, rejects);
+    }
+
+    private StagedStudent toStagedStudent(StudentCsvRow row) {
+        if (row.error() != null) {
+            return StagedStudent.rejected(row.line(), row.error());
+        }
+        if (row.name() == null) {
+            return StagedStudent.rejected(row.line(), "Name is required");
+        }
+        if (row.surname() == null) {
+            return StagedStudent.rejected(row.line(), "Surname is required");
+        }
+        if (row.email() == null) {
+            return StagedStudent.rejected(row.line(), "Email is required");
+        }
+        if (row.dateOfBirth() == null) {
+            return StagedStudent.rejected(row.line(), "Date of birth is required");
+        }
+        if (tooLong(row.name()) || tooLong(row.surname()) || tooLong(row.email()) || tooLong(row.studentNumber())) {
+            return StagedStudent.rejected(row.line(), "Values must not be longer than " + MAX_VALUE_LENGTH + " characters");
+        }
+        if (!EMAIL.matcher(row.email()).matches()) {
+            return StagedStudent.rejected(row.line(), "Invalid email: " + row.email());
+        }
+
+        LocalDate dateOfBirth;
+        try {
+            dateOfBirth = LocalDate.parse(row.dateOfBirth());
+        } catch (DateTimeParseException e) {
+            return StagedStudent.rejected(row.line(), "Invalid date of birth, expected yyyy-MM-dd: " + row.dateOfBirth());
+        }
+
+        return new StagedStudent(row.line(), row.name(), row.surname(), row.email(), row.studentNumber(), dateOfBirth, null);
+    }
+
+    private boolean tooLong(String value) {
+        return value != null && value.length() > MAX_VALUE_LENGTH;
+    }
+}
@@ -1,32 +1,81 @@
 package com.company.university.student.service;
 
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
 import com.company.university.lecture.application.LectureNotFoundException;
 import com.company.university.lecture.domain.Lecture;
 import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.outbox.domain.DomainEventType;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.service.OutboxService;
+import com.company.university.search.application.SearchCursor;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
+import com.company.university.student.application.StudentCursor;
 import com.company.university.student.application.StudentMapper;
 import com.company.university.student.application.StudentNotFoundException;
 import com.company.university.student.application.StudentValidator;
+import com.company.university.student.domain.EnrollmentCandidate;
 import com.company.university.student.domain.Student;
+import com.company.university.student.domain.StudentEnrollmentRepository;
 import com.company.university.student.domain.StudentRepository;
+import com.company.university.student.domain.StudentSearchRepository;
 import com.company.university.student.dto.*;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.company.university.cache.service.ResponseCacheName.LECTURE;
+import static com.company.university.cache.service.ResponseCacheName.STUDENT;
+import static com.company.university.outbox.domain.DomainEventType.STUDENT_ENROLLED;
+import static com.company.university.outbox.domain.DomainEventType.STUDENT_LEFT_WAITLIST;
+import static com.company.university.outbox.domain.DomainEventType.STUDENT_UNENROLLED;
+import static com.company.university.outbox.domain.DomainEventType.STUDENT_WAITLISTED;
 
 @Service
+@Timed("university.service")
 @RequiredArgsConstructor
 @Transactional
 public class StudentService {
 
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int MAX_ENROLLMENT_BATCH_SIZE = 10_000;
+    private static final int IMPORT_FLUSH_SIZE = 1_000;
+    private static final int MAX_IMPORT_BATCH_SIZE = 10_000;
+
     private final StudentRepository studentRepository;
     private final LectureRepository lectureRepository;
     private final StudentValidator validator;
+    private final EntityManager entityManager;
+    private final StudentEnrollmentRepository enrollmentRepository;
+    private final SecondLevelCacheService secondLevelCache;
+    private final ResponseCacheService responseCache;
+    private final StudentSearchRepository searchRepository;
+    private final OutboxService outboxService;
 
     public CreateStudentResponse createStudent(CreateStudentRequest request) {
         if (request == null) {
@@ -38,20 +87,51 @@ public class StudentService {
         return StudentMapper.createStudentResponse(savedStudent);
     }
 
+    /**
+     * Inserts the students in JDBC batches, flushing and clearing the persistence context every
+     * {@value #IMPORT_FLUSH_SIZE} rows so it stays small; the request itself is capped at
+     * {@value #MAX_IMPORT_BATCH_SIZE} students.
+     */
+    public CreateStudentsResponse createStudents(CreateStudentsRequest request) {
+        if (request == null || request.students() == null || request.students().isEmpty()) {
+            throw new IllegalArgumentException("Students cannot be empty");
+        }
+        if (request.students().size() > MAX_IMPORT_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_IMPORT_BATCH_SIZE + " students at once");
+        }
+
+        List<CreateStudentRequest> students = request.students();
+        if (students.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Students cannot contain null");
+        }
+        List<Long> ids = new ArrayList<>(students.size());
+
+        for (int from = 0; from < students.size(); from += IMPORT_FLUSH_SIZE) {
+            List<Student> chunk = students.subList(from, Math.min(from + IMPORT_FLUSH_SIZE, students.size()))
+                    .stream()
+                    .map(StudentMapper::toStudent)
+                    .toList();
+
+            studentRepository.saveAll(chunk).forEach(student -> ids.add(student.getId()));
+            studentRepository.flush();
+            entityManager.clear();
+        }
+        return new CreateStudentsResponse(ids.size(), ids);
+    }
+
+    @Transactional(readOnly = true)
     public List<FindStudentResponse> getStudents() {
-        return studentRepository.findAll()
-                .stream()
-                .map(StudentMapper::findStudentResponse)
-                .toList();
+        return studentRepository.findAllResponses();
     }
 
+    /**
+     * Not read-only: the response is cached, so a miss is always loaded from the primary.
+     */
     public FindStudentResponse getStudent(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
-
-        return StudentMapper.findStudentResponse(student);
+        return responseCache.get(STUDENT, id, this::loadStudent);
     }
 
+    @Transactional(readOnly = true)
     public Page<FindStudentResponse> getStudents(int page, int size, String sortBy, String direction) {
         validator.validatePaginationAndSorting(page, size, sortBy, direction);
 
@@ -61,10 +141,55 @@ public class StudentService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        return studentRepository.findAll(pageable)
-                .map(StudentMapper::findStudentResponse);
+        return studentRepository.findResponsePage(pageable);
+    }
+
+    /**
+     * Ranked search by name, surname, email or student number, keyset-paged on the rank.
+     */
+    @Transactional(readOnly = true)
+    public FindStudentsCursorResponse searchStudents(String query, String cursor, int size) {
+        SearchQuery searchQuery = SearchQuery.parse(query);
+        SearchQuery.validatePageSize(size);
+        SearchCursor position = cursor != null ? SearchCursor.decode(cursor) : null;
+
+        List<SearchHit<Student>> hits = searchRepository.search(searchQuery, position, size + 1);
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<Student>> content = hasNext ? hits.subList(0, size) : hits;
+
+        return FindStudentsCursorResponse.builder()
+                .content(content.stream().map(hit -> StudentMapper.findStudentResponse(hit.item())).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new SearchCursor(content.getLast().score(), content.getLast().item().getId()).encode() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public FindStudentsCursorResponse getStudents(String cursor, int size, String sortBy, String direction) {
+        StudentCursor position = cursor != null ? StudentCursor.decode(cursor) : null;
+        String field = position != null ? position.sortBy() : sortBy;
+        String order = position != null ? position.direction() : direction;
+
+        validator.validateSizeAndSorting(size, field, order);
+
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<FindStudentResponse> students = position != null
+                ? findStudentsAfter(position, limit)
+                : studentRepository.findResponses(PageRequest.of(0, size + 1, keysetSort(field, order)));
+
+        boolean hasNext = students.size() > size;
+        List<FindStudentResponse> content = hasNext ? students.subList(0, size) : students;
+
+        return FindStudentsCursorResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? StudentCursor.of(field, order, content.getLast()).encode() : null)
+                .build();
     }
 
+    @Transactional(readOnly = true)
     public FindStudentWithLecturesResponse findByIdWithLectures(Long id) {
         Student student = studentRepository.findByIdWithLectures(id)
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -73,6 +198,7 @@ public class StudentService {
         return StudentMapper.toFindStudentWithLecturesResponse(student);
     }
 
+    @Transactional(readOnly = true)
     public List<FindStudentWithLecturesResponse> findAllWithLectures() {
         return studentRepository.findAllWithLectures()
                 .stream()
@@ -80,13 +206,50 @@ public class StudentService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public void streamAllWithLectures(Consumer<FindStudentWithLecturesResponse> consumer) {
+        try (Stream<Student> students = studentRepository.streamAll()) {
+            List<Student> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+            Iterator<Student> iterator = students.iterator();
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    exportBatch(batch, consumer);
+                }
+            }
+            exportBatch(batch, consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public Page<FindStudentWithLecturesResponse> findAllWithLectures(Pageable pageable) {
-        Page<Student> page = studentRepository.findAllWithLectures(pageable);
+        Page<Long> ids = studentRepository.findIds(pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, Student> students = studentRepository.findAllWithLecturesByIdIn(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
 
-        return page.map(StudentMapper::toFindStudentWithLecturesResponse);
+        List<FindStudentWithLecturesResponse> content = ids.getContent().stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
+                .map(StudentMapper::toFindStudentWithLecturesResponse)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
     }
 
     public UpdateStudentResponse updateStudent(Long id, UpdateStudentRequest request) {
+        return updateStudent(id, request, null);
+    }
+
+    /**
+     * Updates the student if it is still at {@code expectedVersion}, a {@code null} version skips the check.
+     */
+    public UpdateStudentResponse updateStudent(Long id, UpdateStudentRequest request, Long expectedVersion) {
         if (request == null) {
             throw new IllegalArgumentException("Request cannot be null");
         }
@@ -98,9 +261,15 @@ public class StudentService {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(student.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Student " + id + " is at version " + student.getVersion() + ", expected " + expectedVersion);
+        }
+
         StudentMapper.updateStudentFromRequest(student, request);
 
-        Student saved = studentRepository.save(student);
+        Student saved = studentRepository.saveAndFlush(student);
+        responseCache.evict(STUDENT, id);
         return StudentMapper.updateStudentResponse(saved);
     }
 
@@ -108,10 +277,22 @@ public class StudentService {
         if (!studentRepository.existsById(id)) {
             throw new StudentNotFoundException("Student not found with id: " + id);
         }
+
+        List<Long> lectureIds = enrollmentRepository.deleteAllOfStudent(id);
+        outboxService.appendAll(lectureIds.stream()
+                .map(lectureId -> OutboxEvent.enrollment(STUDENT_UNENROLLED, id, lectureId))
+                .toList());
+        lectureRepository.findAllById(lectureIds).forEach(this::freeSeat);
         studentRepository.deleteById(id);
+        secondLevelCache.evictLectures(lectureIds);
+        responseCache.evict(STUDENT, id);
+        responseCache.evict(LECTURE, lectureIds);
     }
 
-    public void addLectureToStudent(Long studentId, Long lectureId) {
+    /**
+     * Enrolls the student if the lecture has a free seat, otherwise puts them on the lecture waitlist.
+     */
+    public EnrollmentStatus addLectureToStudent(Long studentId, Long lectureId) {
         if (studentId == null || lectureId == null) {
             throw new IllegalArgumentException("Id student and id lecture are null");
         }
@@ -119,12 +300,86 @@ public class StudentService {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new LectureNotFoundException("Lecture not found with id: " + lectureId));
 
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + studentId));
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException("Student not found with id: " + studentId);
+        }
 
+        if (enrollmentRepository.exists(studentId, lectureId)) {
+            return EnrollmentStatus.ALREADY_ENROLLED;
+        }
         validator.validateScheduleConflict(studentId, lecture);
-        student.addLecture(lecture);
-        studentRepository.save(student);
+
+        if (!enrollmentRepository.reserveSeat(lectureId)) {
+            enrollmentRepository.addToWaitlist(lectureId, studentId);
+            outboxService.append(OutboxEvent.enrollment(STUDENT_WAITLISTED, studentId, lectureId));
+            return EnrollmentStatus.WAITLISTED;
+        }
+        if (!enrollmentRepository.insert(studentId, lectureId)) {
+            // enrolled concurrently by another request
+            enrollmentRepository.releaseSeats(lectureId, 1);
+            return EnrollmentStatus.ALREADY_ENROLLED;
+        }
+
+        secondLevelCache.evictStudentLectures(List.of(studentId));
+        secondLevelCache.evictLectures(List.of(lectureId));
+        responseCache.evict(LECTURE, lectureId);
+        outboxService.append(OutboxEvent.enrollment(STUDENT_ENROLLED, studentId, lectureId));
+        return EnrollmentStatus.ENROLLED;
+    }
+
+    public EnrollStudentsResponse enrollStudents(EnrollStudentsRequest request) {
+        if (request == null || request.enrollments() == null || request.enrollments().isEmpty()) {
+            throw new IllegalArgumentException("Enrollments cannot be empty");
+        }
+        if (request.enrollments().size() > MAX_ENROLLMENT_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot enroll more than " + MAX_ENROLLMENT_BATCH_SIZE + " pairs at once");
+        }
+
+        List<EnrollStudentsRequest.Enrollment> enrollments = request.enrollments();
+        if (enrollments.stream().anyMatch(e -> e == null || e.studentId() == null || e.lectureId() == null)) {
+            throw new IllegalArgumentException("Id student and id lecture are null");
+        }
+
+        Map<EnrollStudentsRequest.Enrollment, EnrollmentCandidate> candidates = enrollmentRepository.findCandidates(
+                        enrollments.stream().map(EnrollStudentsRequest.Enrollment::studentId).toList(),
+                        enrollments.stream().map(EnrollStudentsRequest.Enrollment::lectureId).toList())
+                .stream()
+                .collect(Collectors.toMap(
+                        c -> new EnrollStudentsRequest.Enrollment(c.studentId(), c.lectureId()),
+                        Function.identity(),
+                        (first, duplicate) -> first));
+
+        Map<Long, List<EnrollmentCandidate>> accepted = new HashMap<>();
+        List<EnrollmentStatus> statuses = new ArrayList<>(enrollments.size());
+        List<EnrollmentCandidate> toSeat = new ArrayList<>();
+
+        for (EnrollStudentsRequest.Enrollment enrollment : enrollments) {
+            EnrollmentCandidate candidate = candidates.get(enrollment);
+            EnrollmentStatus status = evaluateEnrollment(candidate, accepted);
+            statuses.add(status);
+            if (status == EnrollmentStatus.ENROLLED) {
+                toSeat.add(candidate);
+            }
+        }
+
+        Set<EnrollmentCandidate> seated = toSeat.isEmpty() ? Set.of() : new HashSet<>(reserveSeats(toSeat));
+        Set<EnrollmentCandidate> inserted = insertSeated(seated);
+
+        List<EnrollStudentsResponse.EnrollmentResult> results = new ArrayList<>(enrollments.size());
+        for (int i = 0; i < enrollments.size(); i++) {
+            EnrollStudentsRequest.Enrollment enrollment = enrollments.get(i);
+            EnrollmentCandidate candidate = candidates.get(enrollment);
+            EnrollmentStatus status = statuses.get(i);
+            if (status == EnrollmentStatus.ENROLLED && !seated.contains(candidate)) {
+                status = EnrollmentStatus.WAITLISTED;
+            } else if (status == EnrollmentStatus.ENROLLED && !inserted.contains(candidate)) {
+                status = EnrollmentStatus.ALREADY_ENROLLED;
+            }
+            results.add(new EnrollStudentsResponse.EnrollmentResult(
+                    enrollment.studentId(), enrollment.lectureId(), status));
+        }
+
+        return new EnrollStudentsResponse(inserted.size(), results.size() - inserted.size(), results);
     }
 
     public void removeLectureFromStudent(Long lectureId, Long studentId) {
@@ -138,10 +393,159 @@ public class StudentService {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new LectureNotFoundException("Lecture not found with id: " + lectureId));
 
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + studentId));
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException("Student not found with id: " + studentId);
+        }
+
+        if (!enrollmentRepository.delete(studentId, lectureId)) {
+            if (enrollmentRepository.removeFromWaitlist(lectureId, studentId)) {
+                outboxService.append(OutboxEvent.enrollment(STUDENT_LEFT_WAITLIST, studentId, lectureId));
+            }
+            return;
+        }
+
+        outboxService.append(OutboxEvent.enrollment(STUDENT_UNENROLLED, studentId, lectureId));
+        freeSeat(lecture);
+        secondLevelCache.evictStudentLectures(List.of(studentId));
+        secondLevelCache.evictLectures(List.of(lectureId));
+        responseCache.evict(LECTURE, lectureId);
+    }
+
+    private FindStudentResponse loadStudent(Long id) {
+        return studentRepository.findResponseById(id)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found with id: " + id));
+    }
+
+    private void exportBatch(List<Student> batch, Consumer<FindStudentWithLecturesResponse> consumer) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // initializes the lectures of the already managed batch with a single IN query
+        studentRepository.findAllWithLecturesByIdIn(batch.stream().map(Student::getId).toList());
+        batch.stream()
+                .map(StudentMapper::toFindStudentWithLecturesResponse)
+                .forEach(consumer);
+
+        batch.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * Takes seats lecture by lecture, in id order so concurrent batches lock lecture rows in the same order.
+     * Enrollments that did not get a seat go to the waitlist.
+     */
+    private List<EnrollmentCandidate> reserveSeats(List<EnrollmentCandidate> enrollments) {
+        Map<Long, List<EnrollmentCandidate>> byLecture = enrollments.stream()
+                .collect(Collectors.groupingBy(EnrollmentCandidate::lectureId, TreeMap::new, Collectors.toList()));
+
+        List<EnrollmentCandidate> seated = new ArrayList<>(enrollments.size());
+        List<EnrollmentCandidate> waitlisted = new ArrayList<>();
+        byLecture.forEach((lectureId, requested) -> {
+            int granted = enrollmentRepository.reserveSeats(lectureId, requested.size());
+            seated.addAll(requested.subList(0, granted));
+            waitlisted.addAll(requested.subList(granted, requested.size()));
+        });
+
+        if (!waitlisted.isEmpty()) {
+            enrollmentRepository.addAllToWaitlist(waitlisted);
+            appendEnrollmentEvents(STUDENT_WAITLISTED, waitlisted);
+        }
+        return seated;
+    }
+
+    /**
+     * Inserts the seated enrollments and gives back the seats of pairs enrolled concurrently in the meantime.
+     */
+    private Set<EnrollmentCandidate> insertSeated(Set<EnrollmentCandidate> seated) {
+        if (seated.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<EnrollmentCandidate> inserted = new HashSet<>(enrollmentRepository.insertAll(List.copyOf(seated)));
+        appendEnrollmentEvents(STUDENT_ENROLLED, inserted);
+        seated.stream()
+                .filter(enrollment -> !inserted.contains(enrollment))
+                .collect(Collectors.groupingBy(EnrollmentCandidate::lectureId, TreeMap::new, Collectors.counting()))
+                .forEach((lectureId, count) -> enrollmentRepository.releaseSeats(lectureId, count.intValue()));
+
+        secondLevelCache.evictStudentLectures(seated.stream()
+                .map(EnrollmentCandidate::studentId)
+                .collect(Collectors.toSet()));
+        Set<Long> lectureIds = seated.stream()
+                .map(EnrollmentCandidate::lectureId)
+                .collect(Collectors.toSet());
+        secondLevelCache.evictLectures(lectureIds);
+        responseCache.evict(LECTURE, lectureIds);
+        return inserted;
+    }
+
+    /**
+     * Hands a freed seat to the first waitlisted student who can still take it, or gives it back to the lecture.
+     * Students who meanwhile got a conflicting lecture or the lecture itself drop off the waitlist.
+     */
+    private void freeSeat(Lecture lecture) {
+        Optional<Long> next;
+        while ((next = enrollmentRepository.pollWaitlist(lecture.getId())).isPresent()) {
+            Long studentId = next.get();
+            boolean conflicting = lectureRepository.existsStudentScheduleConflict(
+                    studentId, lecture.getStartDateTime(), lecture.getEndDateTime());
+
+            if (!conflicting && enrollmentRepository.insert(studentId, lecture.getId())) {
+                secondLevelCache.evictStudentLectures(List.of(studentId));
+                outboxService.append(OutboxEvent.enrollment(STUDENT_ENROLLED, studentId, lecture.getId()));
+                return;
+            }
+            outboxService.append(OutboxEvent.enrollment(STUDENT_LEFT_WAITLIST, studentId, lecture.getId()));
+        }
+        enrollmentRepository.releaseSeats(lecture.getId(), 1);
+    }
+
+    private void appendEnrollmentEvents(DomainEventType type, Collection<EnrollmentCandidate> enrollments) {
+        outboxService.appendAll(enrollments.stream()
+                .map(enrollment -> OutboxEvent.enrollment(type, enrollment.studentId(), enrollment.lectureId()))
+                .toList());
+    }
+
+    private EnrollmentStatus evaluateEnrollment(EnrollmentCandidate candidate,
+                                                Map<Long, List<EnrollmentCandidate>> accepted) {
+        if (!candidate.studentExists()) {
+            return EnrollmentStatus.STUDENT_NOT_FOUND;
+        }
+        if (!candidate.lectureExists()) {
+            return EnrollmentStatus.LECTURE_NOT_FOUND;
+        }
+
+        List<EnrollmentCandidate> acceptedForStudent = accepted.computeIfAbsent(candidate.studentId(), id -> new ArrayList<>());
+        if (candidate.alreadyEnrolled() || acceptedForStudent.contains(candidate)) {
+            return EnrollmentStatus.ALREADY_ENROLLED;
+        }
+        if (candidate.conflicting() || acceptedForStudent.stream().anyMatch(candidate::overlaps)) {
+            return EnrollmentStatus.SCHEDULE_CONFLICT;
+        }
+
+        acceptedForStudent.add(candidate);
+        return EnrollmentStatus.ENROLLED;
+    }
+
+    private List<FindStudentResponse> findStudentsAfter(StudentCursor cursor, Pageable limit) {
+        boolean desc = cursor.isDescending();
+        return switch (cursor.sortBy()) {
+            case "name" -> desc
+                    ? studentRepository.findNextByNameDesc(cursor.key(), cursor.id(), limit)
+                    : studentRepository.findNextByNameAsc(cursor.key(), cursor.id(), limit);
+            case "surname" -> desc
+                    ? studentRepository.findNextBySurnameDesc(cursor.key(), cursor.id(), limit)
+                    : studentRepository.findNextBySurnameAsc(cursor.key(), cursor.id(), limit);
+            default -> desc
+                    ? studentRepository.findNextByIdDesc(cursor.id(), limit)
+                    : studentRepository.findNextByIdAsc(cursor.id(), limit);
+        };
+    }
 
-        student.removeLecture(lecture);
-        studentRepository.save(student);
+    private Sort keysetSort(String sortBy, String direction) {
+        Sort.Direction order = Sort.Direction.fromString(direction);
+        Sort sort = Sort.by(order, sortBy);
+        return sortBy.equals("id") ? sort : sort.and(Sort.by(order, "id"));
     }
 }
\ No newline at end of file
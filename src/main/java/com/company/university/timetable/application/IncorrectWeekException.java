@@ -0,0 +1,7 @@
+package com.company.university.timetable.application;
+
+public class IncorrectWeekException extends RuntimeException {
+    public IncorrectWeekException(String message) {
+        super(message);
+    }
+}
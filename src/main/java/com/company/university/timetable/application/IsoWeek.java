@@ -0,0 +1,57 @@
+package com.company.university.timetable.application;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.regex.Pattern;
+
+/**
+ * ISO-8601 week, written as {@code 2025-W48}, identified by its Monday.
+ */
+public record IsoWeek(LocalDate monday) {
+
+    private static final Pattern FORMAT = Pattern.compile("^\\d{4}-W\\d{2}$");
+
+    public static IsoWeek of(LocalDate date) {
+        return new IsoWeek(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+    }
+
+    public static IsoWeek current() {
+        return of(LocalDate.now());
+    }
+
+    /**
+     * Parses {@code yyyy-Www}, a missing week means the current one.
+     */
+    public static IsoWeek parse(String week) {
+        if (week == null || week.isBlank()) {
+            return current();
+        }
+        if (!FORMAT.matcher(week).matches()) {
+            throw new IncorrectWeekException("Week must be an ISO week like 2025-W48: " + week);
+        }
+        try {
+            return new IsoWeek(LocalDate.parse(week + "-1", DateTimeFormatter.ISO_WEEK_DATE));
+        } catch (DateTimeParseException e) {
+            throw new IncorrectWeekException("Week does not exist: " + week);
+        }
+    }
+
+    public LocalDateTime start() {
+        return monday.atStartOfDay();
+    }
+
+    public LocalDateTime end() {
+        return monday.plusWeeks(1).atStartOfDay();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d-W%02d",
+                monday.get(IsoFields.WEEK_BASED_YEAR), monday.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
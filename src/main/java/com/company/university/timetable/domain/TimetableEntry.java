@@ -0,0 +1,12 @@
+package com.company.university.timetable.domain;
+
+import java.time.LocalDateTime;
+
+public record TimetableEntry(
+        Long lectureId,
+        String title,
+        String roomNumber,
+        Long lecturerId,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime
+) { }
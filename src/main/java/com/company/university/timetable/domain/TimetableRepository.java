@@ -0,0 +1,67 @@
+package com.company.university.timetable.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Weekly timetables, each read with a single index range scan.
+ * Student weeks come from the trigger-maintained {@code student_timetable} projection, room and lecturer weeks
+ * straight from {@code lecture} through the gist indexes of its overlap exclusion constraints.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimetableRepository {
+
+    private static final String FIND_STUDENT_WEEK = """
+            SELECT lecture_id, title, room_number, lecturer_id, start_date_time, end_date_time
+            FROM student_timetable
+            WHERE student_id = ?
+              AND week_start = ?
+            ORDER BY start_date_time, lecture_id
+            """;
+
+    private static final String FIND_ROOM_WEEK = """
+            SELECT id AS lecture_id, title, room_number, lecturer_id, start_date_time, end_date_time
+            FROM lecture
+            WHERE room_number = ?
+              AND time_range && tsrange(?, ?, '[)')
+            ORDER BY start_date_time, id
+            """;
+
+    private static final String FIND_LECTURER_WEEK = """
+            SELECT id AS lecture_id, title, room_number, lecturer_id, start_date_time, end_date_time
+            FROM lecture
+            WHERE lecturer_id = ?
+              AND time_range && tsrange(?, ?, '[)')
+            ORDER BY start_date_time, id
+            """;
+
+    private static final RowMapper<TimetableEntry> ENTRY = (rs, rowNum) -> new TimetableEntry(
+            rs.getLong("lecture_id"),
+            rs.getString("title"),
+            rs.getString("room_number"),
+            rs.getLong("lecturer_id"),
+            rs.getObject("start_date_time", LocalDateTime.class),
+            rs.getObject("end_date_time", LocalDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<TimetableEntry> findStudentWeek(Long studentId, LocalDate monday) {
+        return jdbcTemplate.query(FIND_STUDENT_WEEK, ENTRY, studentId, monday);
+    }
+
+    public List<TimetableEntry> findRoomWeek(String roomNumber, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_ROOM_WEEK, ENTRY, roomNumber, from, to);
+    }
+
+    public List<TimetableEntry> findLecturerWeek(Long lecturerId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_LECTURER_WEEK, ENTRY, lecturerId, from, to);
+    }
+}
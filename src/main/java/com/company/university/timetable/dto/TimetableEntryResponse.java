@@ -0,0 +1,17 @@
+package com.company.university.timetable.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TimetableEntryResponse {
+    private Long lectureId;
+    private String title;
+    private String roomNumber;
+    private Long lecturerId;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+}
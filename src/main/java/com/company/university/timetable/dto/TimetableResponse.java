@@ -0,0 +1,15 @@
+package com.company.university.timetable.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class TimetableResponse {
+    private String week;
+    private LocalDate weekStart;
+    private List<TimetableEntryResponse> entries;
+}
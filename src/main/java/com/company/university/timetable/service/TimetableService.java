@@ -0,0 +1,72 @@
+package com.company.university.timetable.service;
+
+import com.company.university.lecturer.application.LecturerNotFoundException;
+import com.company.university.lecturer.domain.LecturerRepository;
+import com.company.university.student.application.StudentNotFoundException;
+import com.company.university.student.domain.StudentRepository;
+import com.company.university.timetable.application.IsoWeek;
+import com.company.university.timetable.domain.TimetableEntry;
+import com.company.university.timetable.domain.TimetableRepository;
+import com.company.university.timetable.dto.TimetableEntryResponse;
+import com.company.university.timetable.dto.TimetableResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Weekly timetables of students, rooms and lecturers. Existence of the student or lecturer is only checked
+ * when their week is empty, so a non-empty week costs one index lookup.
+ */
+@Service
+@Timed("university.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TimetableService {
+
+    private final TimetableRepository timetableRepository;
+    private final StudentRepository studentRepository;
+    private final LecturerRepository lecturerRepository;
+
+    public TimetableResponse getStudentTimetable(Long studentId, String week) {
+        IsoWeek isoWeek = IsoWeek.parse(week);
+        List<TimetableEntry> entries = timetableRepository.findStudentWeek(studentId, isoWeek.monday());
+        if (entries.isEmpty() && !studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException("Student not found with id: " + studentId);
+        }
+        return toResponse(isoWeek, entries);
+    }
+
+    public TimetableResponse getRoomTimetable(String roomNumber, String week) {
+        IsoWeek isoWeek = IsoWeek.parse(week);
+        return toResponse(isoWeek, timetableRepository.findRoomWeek(roomNumber, isoWeek.start(), isoWeek.end()));
+    }
+
+    public TimetableResponse getLecturerTimetable(Long lecturerId, String week) {
+        IsoWeek isoWeek = IsoWeek.parse(week);
+        List<TimetableEntry> entries = timetableRepository.findLecturerWeek(lecturerId, isoWeek.start(), isoWeek.end());
+        if (entries.isEmpty() && !lecturerRepository.existsById(lecturerId)) {
+            throw new LecturerNotFoundException("Lecturer not found with id: " + lecturerId);
+        }
+        return toResponse(isoWeek, entries);
+    }
+
+    private TimetableResponse toResponse(IsoWeek week, List<TimetableEntry> entries) {
+        return TimetableResponse.builder()
+                .week(week.toString())
+                .weekStart(week.monday())
+                .entries(entries.stream()
+                        .map(entry -> TimetableEntryResponse.builder()
+                                .lectureId(entry.lectureId())
+                                .title(entry.title())
+                                .roomNumber(entry.roomNumber())
+                                .lecturerId(entry.lecturerId())
+                                .startDateTime(entry.startDateTime())
+                                .endDateTime(entry.endDateTime())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -1,8 +1,11 @@
 package com.company.university.web;
 
+import com.company.university.feed.application.EventFeedFullException;
 import com.company.university.lecture.application.LectureNotFoundException;
 import com.company.university.lecturer.application.LecturerNotFoundException;
+import com.company.university.search.application.IncorrectSearchQueryException;
 import com.company.university.student.application.*;
+import com.company.university.timetable.application.IncorrectWeekException;
 import com.company.university.lecture.application.BusinessValidationException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -12,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -51,12 +56,29 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, message, request.getRequestURI(), null);
     }
 
+    /**
+     * A stale {@code If-Match} version is a failed precondition, a concurrent write without one is a plain conflict.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleStaleVersion(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+
+        log.info("Stale version at path {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(status, ex.getMessage(), request.getRequestURI(), null);
+    }
+
     @ExceptionHandler({
             BusinessValidationException.class,
             StudentPageMoreThanZeroException.class,
             StudentPageSizeMoreThanZeroException.class,
             IncorrectFieldSortedByException.class,
             IncorrectSortDirectionException.class,
+            IncorrectCursorException.class,
+            StudentImportException.class,
+            IncorrectSearchQueryException.class,
+            IncorrectWeekException.class,
             IllegalArgumentException.class
     })
     public ResponseEntity<ApiError> handleBadRequest(RuntimeException ex, HttpServletRequest request) {
@@ -64,6 +86,15 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI(), null);
     }
 
+    /**
+     * Sent without a body, an {@link ApiError} cannot be written to a client that only accepts {@code text/event-stream}.
+     */
+    @ExceptionHandler(EventFeedFullException.class)
+    public ResponseEntity<Void> handleEventFeedFull(EventFeedFullException ex, HttpServletRequest request) {
+        log.warn("Event feed rejected subscriber at path {}: {}", request.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleValidationException(MethodArgumentNotValidException ex, HttpServletRequest request) {
         List<ValidationError> errors = ex.getBindingResult().getFieldErrors()
@@ -0,0 +1,32 @@
+package com.company.university.web.api;
+
+import com.company.university.cache.dto.CacheRegionStatisticsResponse;
+import com.company.university.cache.dto.ResponseCacheStatisticsResponse;
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final ResponseCacheService responseCacheService;
+
+    @GetMapping("/second-level")
+    public ResponseEntity<List<CacheRegionStatisticsResponse>> getSecondLevelCacheStatistics() {
+        return ResponseEntity.ok(secondLevelCacheService.getStatistics());
+    }
+
+    @GetMapping("/responses")
+    public ResponseEntity<List<ResponseCacheStatisticsResponse>> getResponseCacheStatistics() {
+        return ResponseEntity.ok(responseCacheService.getStatistics());
+    }
+}
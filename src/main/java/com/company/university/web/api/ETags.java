@@ -0,0 +1,34 @@
+package com.company.university.web.api;
+
+/**
+ * Strong entity tags derived from the entity {@code @Version}.
+ * GET responses carrying one are answered with 304 by Spring MVC when {@code If-None-Match} matches.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the version required by an {@code If-Match} header, or {@code null} when the header is absent or {@code *}.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong entity tag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single strong entity tag");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.university.web.api;
+
+import com.company.university.feed.service.EventFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventFeedController {
+
+    private final EventFeedService eventFeedService;
+
+    /**
+     * Browsers resend the id of the last received event in {@code Last-Event-ID} when they reconnect;
+     * the {@code lastEventId} parameter is for clients that cannot set headers.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                @RequestParam(required = false) Long lastEventId) {
+        return eventFeedService.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
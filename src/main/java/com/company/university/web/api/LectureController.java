@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,7 +31,9 @@ public class LectureController {
     @GetMapping("/{id}")
     public ResponseEntity<FindLectureResponse> getLecture(@PathVariable Long id) {
         FindLectureResponse lecture = lectureService.getLecture(id);
-        return ResponseEntity.ok(lecture);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(lecture.getVersion()))
+                .body(lecture);
     }
 
     @GetMapping("/date")
@@ -52,7 +55,10 @@ public class LectureController {
         );
     }
 
-    @GetMapping
+    /**
+     * Only mapped when a {@code startDate} is given, a plain {@code GET /api/lectures} is served by {@link #getLectures()}.
+     */
+    @GetMapping(params = "startDate")
     public Page<FindLectureResponse> getLectures(
             @PageableDefault(sort = "startDate") Pageable pageable,
 
@@ -73,11 +79,20 @@ public class LectureController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<CreateLecturesResponse> createLectures(@RequestBody CreateLecturesRequest request) {
+        CreateLecturesResponse created = lectureService.createLectures(request);
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UpdateLectureResponse> updateLecture(@PathVariable Long id,
-                                                               @RequestBody UpdateLectureRequest updatedLecture) {
-        UpdateLectureResponse lectureDTO = lectureService.updateLecture(id, updatedLecture);
-        return ResponseEntity.ok(lectureDTO);
+                                                               @RequestBody UpdateLectureRequest updatedLecture,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UpdateLectureResponse lectureDTO = lectureService.updateLecture(id, updatedLecture, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(lectureDTO.getVersion()))
+                .body(lectureDTO);
     }
 
     @DeleteMapping("/{id}")
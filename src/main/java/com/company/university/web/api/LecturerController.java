@@ -6,6 +6,7 @@ import com.company.university.lecturer.dto.*;
 import com.company.university.lecturer.service.LecturerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,10 +39,21 @@ public class LecturerController {
         );
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<FindLecturersCursorResponse> searchLecturers(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(lecturerService.searchLecturers(q, cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FindLecturerResponse> getLecturer(@PathVariable Long id) {
         FindLecturerResponse lecturer = lecturerService.getLecturer(id);
-        return ResponseEntity.ok(lecturer);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(lecturer.getVersion()))
+                .body(lecturer);
     }
 
     @PostMapping
@@ -58,9 +70,12 @@ public class LecturerController {
 
     @PutMapping("/{id}")
     public ResponseEntity<UpdateLecturerResponse> updateLecturer(@PathVariable Long id,
-                                                                 @RequestBody UpdateLecturerRequest updatedLecturer) {
-        UpdateLecturerResponse lecturer = lecturerService.updateLecturer(id, updatedLecturer);
-        return ResponseEntity.ok(lecturer);
+                                                                 @RequestBody UpdateLecturerRequest updatedLecturer,
+                                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UpdateLecturerResponse lecturer = lecturerService.updateLecturer(id, updatedLecturer, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(lecturer.getVersion()))
+                .body(lecturer);
     }
 
     @DeleteMapping("/{id}")
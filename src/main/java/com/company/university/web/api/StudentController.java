@@ -1,14 +1,27 @@
 package com.company.university.web.api;
 
 import com.company.university.student.dto.*;
+import com.company.university.student.service.StudentImportService;
 import com.company.university.student.service.StudentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -17,6 +30,8 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentImportService studentImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -24,6 +39,17 @@ public class StudentController {
         return studentService.createStudent(request);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CreateStudentsResponse createStudents(@RequestBody CreateStudentsRequest request) {
+        return studentService.createStudents(request);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportStudentsResponse importStudents(InputStream csv) {
+        return studentImportService.importStudents(new InputStreamReader(csv, StandardCharsets.UTF_8));
+    }
+
     @GetMapping
     public List<FindStudentResponse> getStudents() {
         return studentService.getStudents();
@@ -39,9 +65,31 @@ public class StudentController {
         return studentService.getStudents(page, size, sortBy, direction);
     }
 
+    @GetMapping("/search")
+    public FindStudentsCursorResponse searchStudents(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return studentService.searchStudents(q, cursor, size);
+    }
+
+    @GetMapping("/paged/cursor")
+    public FindStudentsCursorResponse getStudentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction
+    ) {
+        return studentService.getStudents(cursor, size, sortBy, direction);
+    }
+
     @GetMapping("/{id}")
-    public FindStudentResponse getStudent(@PathVariable Long id) {
-        return studentService.getStudent(id);
+    public ResponseEntity<FindStudentResponse> getStudent(@PathVariable Long id) {
+        FindStudentResponse student = studentService.getStudent(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(student.getVersion()))
+                .body(student);
     }
 
     // ------------------------------------------------------------
@@ -57,6 +105,23 @@ public class StudentController {
         return studentService.findAllWithLectures();
     }
 
+    @GetMapping(value = "/with-lectures/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAllWithLectures(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        studentService.streamAllWithLectures(student -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(student));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
     @GetMapping("/with-lectures/paged")
     public Page<FindStudentWithLecturesResponse> findAllWithLecturesPaged(
             @PageableDefault(size = 10, sort = "id") Pageable pageable
@@ -65,11 +130,15 @@ public class StudentController {
     }
 
     @PutMapping("/{id}")
-    public UpdateStudentResponse updateStudent(
+    public ResponseEntity<UpdateStudentResponse> updateStudent(
             @PathVariable Long id,
-            @RequestBody UpdateStudentRequest request
+            @RequestBody UpdateStudentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return studentService.updateStudent(id, request);
+        UpdateStudentResponse student = studentService.updateStudent(id, request, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(student.getVersion()))
+                .body(student);
     }
 
     @DeleteMapping("/{id}")
@@ -78,13 +147,26 @@ public class StudentController {
         studentService.deleteStudent(id);
     }
 
+    /**
+     * 204 once the student is enrolled, as before waitlists existed. A full lecture puts the student on its waitlist
+     * instead, answered with 202 and the {@link EnrollmentStatus#WAITLISTED} result.
+     */
     @PostMapping("/{studentId}/lectures/{lectureId}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void addLectureToStudent(
+    public ResponseEntity<EnrollStudentsResponse.EnrollmentResult> addLectureToStudent(
             @PathVariable Long studentId,
             @PathVariable Long lectureId
     ) {
-        studentService.addLectureToStudent(studentId, lectureId);
+        EnrollmentStatus status = studentService.addLectureToStudent(studentId, lectureId);
+        if (status != EnrollmentStatus.WAITLISTED) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.accepted()
+                .body(new EnrollStudentsResponse.EnrollmentResult(studentId, lectureId, status));
+    }
+
+    @PostMapping("/enrollments")
+    public EnrollStudentsResponse enrollStudents(@Valid @RequestBody EnrollStudentsRequest request) {
+        return studentService.enrollStudents(request);
     }
 
     @DeleteMapping("/{studentId}/lectures/{lectureId}")
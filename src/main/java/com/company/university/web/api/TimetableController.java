@@ -0,0 +1,33 @@
+package com.company.university.web.api;
+
+import com.company.university.timetable.dto.TimetableResponse;
+import com.company.university.timetable.service.TimetableService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/timetable")
+@RequiredArgsConstructor
+public class TimetableController {
+
+    private final TimetableService timetableService;
+
+    @GetMapping("/students/{studentId}")
+    public ResponseEntity<TimetableResponse> getStudentTimetable(@PathVariable Long studentId,
+                                                                 @RequestParam(required = false) String week) {
+        return ResponseEntity.ok(timetableService.getStudentTimetable(studentId, week));
+    }
+
+    @GetMapping("/rooms/{roomNumber}")
+    public ResponseEntity<TimetableResponse> getRoomTimetable(@PathVariable String roomNumber,
+                                                              @RequestParam(required = false) String week) {
+        return ResponseEntity.ok(timetableService.getRoomTimetable(roomNumber, week));
+    }
+
+    @GetMapping("/lecturers/{lecturerId}")
+    public ResponseEntity<TimetableResponse> getLecturerTimetable(@PathVariable Long lecturerId,
+                                                                  @RequestParam(required = false) String week) {
+        return ResponseEntity.ok(timetableService.getLecturerTimetable(lecturerId, week));
+    }
+}
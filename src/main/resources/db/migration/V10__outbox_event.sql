@@ -0,0 +1,11 @@
+-- Transactional outbox: domain events are inserted by the transaction that made the change and removed by the relay
+-- once its sinks accepted them, so the table only holds the events not yet relayed.
+-- No foreign keys, the events must outlive the lectures and students they describe.
+CREATE TABLE outbox_event (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    type VARCHAR(32) NOT NULL,
+    lecture_id BIGINT NOT NULL,
+    student_id BIGINT,
+    payload JSONB,
+    occurred_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,16 @@
+-- Relayed domain events kept for a retention window, so the live event feed on every instance can tail them,
+-- not only the instance whose relay claimed them from outbox_event.
+-- Appended by the relay transaction under an advisory lock, so seq order is also commit order and a reader
+-- that tails by seq never passes a row that commits later with a smaller seq.
+CREATE TABLE domain_event_log (
+    seq BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    lecture_id BIGINT NOT NULL,
+    student_id BIGINT,
+    payload JSONB,
+    occurred_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+    logged_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+CREATE INDEX idx_domain_event_log_logged_at ON domain_event_log (logged_at);
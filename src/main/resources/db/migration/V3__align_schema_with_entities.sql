@@ -0,0 +1,101 @@
+-- V2 created pluralised tables that no entity maps to, so Hibernate used to build the real schema on startup.
+-- They were never written by the application and are replaced by the tables the entities expect.
+DROP TABLE IF EXISTS student_lecture;
+DROP TABLE IF EXISTS students;
+DROP TABLE IF EXISTS lectures;
+DROP TABLE IF EXISTS lecturers;
+
+CREATE TABLE lecturer (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    surname VARCHAR(255),
+    email VARCHAR(255),
+    date_of_birth DATE
+);
+
+CREATE TABLE lecture (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    room_number VARCHAR(255) NOT NULL,
+    start_date_time TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+    end_date_time TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+    lecturer_id BIGINT NOT NULL,
+
+    CONSTRAINT fk_lecture_lecturer
+    FOREIGN KEY (lecturer_id)
+    REFERENCES lecturer (id)
+    ON DELETE CASCADE
+);
+
+CREATE TABLE student (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    surname VARCHAR(255) NOT NULL,
+    email VARCHAR(255) UNIQUE,
+    date_of_birth DATE,
+    student_number VARCHAR(255) UNIQUE NOT NULL,
+    status VARCHAR(255),
+    created_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE TABLE student_lecture (
+    student_id BIGINT NOT NULL,
+    lecture_id BIGINT NOT NULL,
+
+    PRIMARY KEY (student_id, lecture_id),
+
+    CONSTRAINT fk_student_lecture_student
+    FOREIGN KEY (student_id)
+    REFERENCES student (id)
+    ON DELETE CASCADE,
+
+    CONSTRAINT fk_student_lecture_lecture
+    FOREIGN KEY (lecture_id)
+    REFERENCES lecture (id)
+    ON DELETE CASCADE
+);
+
+CREATE TABLE roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) UNIQUE NOT NULL
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) UNIQUE NOT NULL,
+    password VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+
+    PRIMARY KEY (user_id, role_id),
+
+    CONSTRAINT fk_user_roles_user
+    FOREIGN KEY (user_id)
+    REFERENCES users (id)
+    ON DELETE CASCADE,
+
+    CONSTRAINT fk_user_roles_role
+    FOREIGN KEY (role_id)
+    REFERENCES roles (id)
+);
+
+-- Room and lecturer overlap checks (LectureRepository.findOverlapping, bulk enrollment)
+CREATE INDEX idx_lecture_room_time ON lecture (room_number, start_date_time, end_date_time);
+CREATE INDEX idx_lecture_lecturer_start ON lecture (lecturer_id, start_date_time);
+
+-- Date range listing (findByStartDateTimeBetween)
+CREATE INDEX idx_lecture_start ON lecture (start_date_time);
+
+-- Lecture -> students side of the join table; the primary key already covers student -> lectures
+CREATE INDEX idx_student_lecture_lecture ON student_lecture (lecture_id, student_id);
+
+-- Keyset and offset pagination sort keys, id breaks ties
+CREATE INDEX idx_student_name_id ON student (name, id);
+CREATE INDEX idx_student_surname_id ON student (surname, id);
+CREATE INDEX idx_lecturer_surname_id ON lecturer (surname, id);
+
+CREATE INDEX idx_user_roles_role ON user_roles (role_id);
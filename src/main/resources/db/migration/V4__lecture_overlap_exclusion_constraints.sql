@@ -0,0 +1,15 @@
+-- Room and lecturer double-booking is rejected by the database itself, so concurrent schedulers cannot race past
+-- the application-level overlap check. Ranges are half-open, back-to-back lectures do not conflict.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE lecture
+    ADD COLUMN time_range TSRANGE
+    GENERATED ALWAYS AS (tsrange(start_date_time, end_date_time, '[)')) STORED;
+
+ALTER TABLE lecture
+    ADD CONSTRAINT ex_lecture_room_time
+    EXCLUDE USING gist (room_number WITH =, time_range WITH &&);
+
+ALTER TABLE lecture
+    ADD CONSTRAINT ex_lecture_lecturer_time
+    EXCLUDE USING gist (lecturer_id WITH =, time_range WITH &&);
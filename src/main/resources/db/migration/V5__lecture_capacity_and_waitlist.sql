@@ -0,0 +1,38 @@
+-- capacity NULL means unlimited. seats_taken is only changed by conditional UPDATEs from the enrollment code,
+-- so concurrent enrollments never have to read the student_lecture rows of a lecture.
+ALTER TABLE lecture ADD COLUMN capacity INTEGER;
+ALTER TABLE lecture ADD COLUMN seats_taken INTEGER NOT NULL DEFAULT 0;
+
+UPDATE lecture l
+SET seats_taken = (SELECT COUNT(*) FROM student_lecture sl WHERE sl.lecture_id = l.id);
+
+ALTER TABLE lecture
+    ADD CONSTRAINT ck_lecture_capacity
+    CHECK (capacity IS NULL OR (capacity > 0 AND seats_taken <= capacity));
+
+ALTER TABLE lecture
+    ADD CONSTRAINT ck_lecture_seats_taken
+    CHECK (seats_taken >= 0);
+
+CREATE TABLE lecture_waitlist (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    lecture_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT uq_lecture_waitlist UNIQUE (lecture_id, student_id),
+
+    CONSTRAINT fk_lecture_waitlist_lecture
+    FOREIGN KEY (lecture_id)
+    REFERENCES lecture (id)
+    ON DELETE CASCADE,
+
+    CONSTRAINT fk_lecture_waitlist_student
+    FOREIGN KEY (student_id)
+    REFERENCES student (id)
+    ON DELETE CASCADE
+);
+
+-- First come, first served within a lecture
+CREATE INDEX idx_lecture_waitlist_queue ON lecture_waitlist (lecture_id, id);
+CREATE INDEX idx_lecture_waitlist_student ON lecture_waitlist (student_id);
@@ -0,0 +1,4 @@
+-- Optimistic locking versions, also exposed to clients as strong ETags
+ALTER TABLE student ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE lecture ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE lecturer ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,29 @@
+-- Sequence ids instead of identity columns, so Hibernate can batch inserts.
+-- INCREMENT BY matches allocationSize = 50 of the pooled optimizer, which hands out the 50 ids up to each value.
+-- Sequences start 50 above the current maximum so the first block does not reuse existing ids.
+-- The column defaults keep plain SQL inserts working; each such insert simply consumes one block.
+
+ALTER TABLE student ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE student_seq INCREMENT BY 50 OWNED BY student.id;
+SELECT setval('student_seq', COALESCE(MAX(id), 0) + 50, false) FROM student;
+ALTER TABLE student ALTER COLUMN id SET DEFAULT nextval('student_seq');
+
+ALTER TABLE lecture ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE lecture_seq INCREMENT BY 50 OWNED BY lecture.id;
+SELECT setval('lecture_seq', COALESCE(MAX(id), 0) + 50, false) FROM lecture;
+ALTER TABLE lecture ALTER COLUMN id SET DEFAULT nextval('lecture_seq');
+
+ALTER TABLE lecturer ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE lecturer_seq INCREMENT BY 50 OWNED BY lecturer.id;
+SELECT setval('lecturer_seq', COALESCE(MAX(id), 0) + 50, false) FROM lecturer;
+ALTER TABLE lecturer ALTER COLUMN id SET DEFAULT nextval('lecturer_seq');
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE users_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE roles ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE roles_seq INCREMENT BY 50 OWNED BY roles.id;
+SELECT setval('roles_seq', COALESCE(MAX(id), 0) + 50, false) FROM roles;
+ALTER TABLE roles ALTER COLUMN id SET DEFAULT nextval('roles_seq');
@@ -0,0 +1,28 @@
+-- Search over students and lecturers without client-side filtering.
+-- search_vector serves whole-word and prefix matches through a GIN index on the 'simple' configuration,
+-- so names are neither stemmed nor dropped as stop words.
+-- search_text serves substring and typo-tolerant matches on names through a pg_trgm GIN index. Emails and student
+-- numbers stay out of it: their trigrams are shared by nearly every row and would make fuzzy lookups scan the table.
+-- Both are stored generated columns, so every write path keeps them current without application code.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE student
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (name || ' ' || surname) STORED,
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        to_tsvector('simple'::regconfig,
+                    name || ' ' || surname || ' ' || COALESCE(email, '') || ' ' || student_number)
+    ) STORED;
+
+CREATE INDEX idx_student_search_vector ON student USING GIN (search_vector);
+CREATE INDEX idx_student_search_text ON student USING GIN (search_text gin_trgm_ops);
+
+ALTER TABLE lecturer
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (COALESCE(name, '') || ' ' || COALESCE(surname, '')) STORED,
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        to_tsvector('simple'::regconfig,
+                    COALESCE(name, '') || ' ' || COALESCE(surname, '') || ' ' || COALESCE(email, ''))
+    ) STORED;
+
+CREATE INDEX idx_lecturer_search_vector ON lecturer USING GIN (search_vector);
+CREATE INDEX idx_lecturer_search_text ON lecturer USING GIN (search_text gin_trgm_ops);
@@ -0,0 +1,102 @@
+-- Weekly timetable projection per student, so a student's week is one index range scan instead of
+-- loading all their lectures. One row per student, lecture and ISO week (Monday) the lecture overlaps.
+-- Kept current by statement-level triggers, so every write path (JPA, JDBC enrollment batches, cascades)
+-- refreshes exactly the rows it touched.
+-- No foreign keys: deleting a student or lecture cascades to student_lecture, whose trigger removes the rows,
+-- and per-row key checks would double the cost of bulk enrollments.
+-- Rooms and lecturers need no projection: a lecture row already is their timetable entry, and the gist indexes
+-- behind ex_lecture_room_time and ex_lecture_lecturer_time answer "lectures overlapping this week" directly.
+
+CREATE TABLE student_timetable (
+    student_id BIGINT NOT NULL,
+    week_start DATE NOT NULL,
+    lecture_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    room_number VARCHAR(255) NOT NULL,
+    lecturer_id BIGINT NOT NULL,
+    start_date_time TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+    end_date_time TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+
+    CONSTRAINT pk_student_timetable PRIMARY KEY (student_id, week_start, lecture_id)
+);
+
+CREATE INDEX idx_student_timetable_lecture ON student_timetable (lecture_id);
+
+-- Mondays of every ISO week the half-open range [start, end) overlaps
+CREATE FUNCTION timetable_weeks(start_date_time TIMESTAMP, end_date_time TIMESTAMP)
+RETURNS SETOF DATE
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT week::date
+    FROM generate_series(date_trunc('week', start_date_time),
+                         date_trunc('week', GREATEST(end_date_time - INTERVAL '1 microsecond', start_date_time)),
+                         INTERVAL '1 week') AS week
+$$;
+
+CREATE FUNCTION student_timetable_enroll() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO student_timetable (student_id, week_start, lecture_id, title, room_number, lecturer_id,
+                                   start_date_time, end_date_time)
+    SELECT n.student_id, w.week_start, l.id, l.title, l.room_number, l.lecturer_id,
+           l.start_date_time, l.end_date_time
+    FROM enrolled n
+    JOIN lecture l ON l.id = n.lecture_id
+    CROSS JOIN LATERAL timetable_weeks(l.start_date_time, l.end_date_time) AS w(week_start)
+    ON CONFLICT DO NOTHING;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION student_timetable_unenroll() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM student_timetable t
+    USING unenrolled o
+    WHERE t.student_id = o.student_id
+      AND t.lecture_id = o.lecture_id;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION student_timetable_lecture_changed() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM student_timetable
+    WHERE lecture_id = NEW.id;
+
+    INSERT INTO student_timetable (student_id, week_start, lecture_id, title, room_number, lecturer_id,
+                                   start_date_time, end_date_time)
+    SELECT sl.student_id, w.week_start, NEW.id, NEW.title, NEW.room_number, NEW.lecturer_id,
+           NEW.start_date_time, NEW.end_date_time
+    FROM student_lecture sl
+    CROSS JOIN LATERAL timetable_weeks(NEW.start_date_time, NEW.end_date_time) AS w(week_start)
+    WHERE sl.lecture_id = NEW.id;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_student_timetable_enroll
+    AFTER INSERT ON student_lecture
+    REFERENCING NEW TABLE AS enrolled
+    FOR EACH STATEMENT EXECUTE FUNCTION student_timetable_enroll();
+
+CREATE TRIGGER trg_student_timetable_unenroll
+    AFTER DELETE ON student_lecture
+    REFERENCING OLD TABLE AS unenrolled
+    FOR EACH STATEMENT EXECUTE FUNCTION student_timetable_unenroll();
+
+-- Row level, so the WHEN clause filters out seat counter and version bumps before the function is ever called
+CREATE TRIGGER trg_student_timetable_lecture_changed
+    AFTER UPDATE OF title, room_number, lecturer_id, start_date_time, end_date_time ON lecture
+    FOR EACH ROW
+    WHEN ((OLD.title, OLD.room_number, OLD.lecturer_id, OLD.start_date_time, OLD.end_date_time)
+          IS DISTINCT FROM (NEW.title, NEW.room_number, NEW.lecturer_id, NEW.start_date_time, NEW.end_date_time))
+    EXECUTE FUNCTION student_timetable_lecture_changed();
+
+INSERT INTO student_timetable (student_id, week_start, lecture_id, title, room_number, lecturer_id,
+                               start_date_time, end_date_time)
+SELECT sl.student_id, w.week_start, l.id, l.title, l.room_number, l.lecturer_id,
+       l.start_date_time, l.end_date_time
+FROM student_lecture sl
+JOIN lecture l ON l.id = sl.lecture_id
+CROSS JOIN LATERAL timetable_weeks(l.start_date_time, l.end_date_time) AS w(week_start);
@@ -0,0 +1,175 @@
+package com.company.university.datasource;
+
+import com.company.university.datasource.config.ReadReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing against a real streaming replica: a primary container and a standby cloned from it with
+ * {@code pg_basebackup}. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingContainerTest {
+
+    private static final String IMAGE = "postgres:16-alpine";
+    private static final String IN_RECOVERY = "SELECT pg_is_in_recovery()";
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCommand("postgres", "-c", "wal_level=replica", "-c", "max_wal_senders=4")
+            .withCopyToContainer(Transferable.of("""
+                    echo "host replication all all trust" >> "$PGDATA/pg_hba.conf"
+                    """, 0755), "/docker-entrypoint-initdb.d/replication.sh");
+
+    @Container
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .dependsOn(PRIMARY)
+            .withExposedPorts(5432)
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", """
+                    until pg_basebackup -h primary -U test -D /tmp/replica -R -X stream; do rm -rf /tmp/replica; sleep 1; done
+                    chmod 700 /tmp/replica
+                    exec postgres -D /tmp/replica
+                    """)
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+    private static ReplicaLagMonitor lagMonitor;
+    private static ReadYourWritesTracker readYourWrites;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readOnly;
+    private static TransactionTemplate readWrite;
+
+    @BeforeAll
+    static void setUp() {
+        primary = dataSource(PRIMARY.getJdbcUrl());
+        replica = dataSource("jdbc:postgresql://" + REPLICA.getHost() + ":" + REPLICA.getMappedPort(5432) + "/test");
+
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setMaxLagMs(200);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+        readYourWrites = new ReadYourWritesTracker(Duration.ofSeconds(5));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWrites, meterRegistry));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readWrite.executeWithoutResult(status ->
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_probe (id BIGINT PRIMARY KEY)"));
+        awaitReplicaInRotation();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static HikariDataSource dataSource(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("test");
+        dataSource.setPassword("test");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    private static void awaitReplicaInRotation() {
+        await().atMost(Duration.ofSeconds(30)).until(() -> {
+            lagMonitor.check();
+            return lagMonitor.isAvailable();
+        });
+    }
+
+    private static boolean readOnlyRunsOnReplica() {
+        Boolean inRecovery = readOnly.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+        return Boolean.TRUE.equals(inRecovery);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunOnReplica() {
+        assertTrue(readOnlyRunsOnReplica());
+    }
+
+    @Test
+    void readWriteTransaction_ShouldRunOnPrimary() {
+        Boolean inRecovery = readWrite.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+        assertEquals(Boolean.FALSE, inRecovery);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldSeeOwnWrite_WhenUserJustWrote() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("writer", null, List.of()));
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO routing_probe VALUES (1)"));
+        readYourWrites.recordWrite();
+
+        assertFalse(readOnlyRunsOnReplica());
+        Long visible = readOnly.execute(status ->
+                jdbcTemplate.queryForObject("SELECT count(*) FROM routing_probe WHERE id = 1", Long.class));
+        assertEquals(1L, visible);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunOnPrimary_WhenReplicaLagsBehind() throws InterruptedException {
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute("SELECT pg_wal_replay_pause()");
+        try {
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO routing_probe VALUES (2)"));
+            Thread.sleep(500);
+            await().atMost(Duration.ofSeconds(10)).until(() -> {
+                lagMonitor.check();
+                return !lagMonitor.isAvailable();
+            });
+
+            assertFalse(readOnlyRunsOnReplica());
+        } finally {
+            replicaTemplate.execute("SELECT pg_wal_replay_resume()");
+        }
+
+        awaitReplicaInRotation();
+        assertTrue(readOnlyRunsOnReplica());
+    }
+}
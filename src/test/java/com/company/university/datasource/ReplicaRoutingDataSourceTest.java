@@ -0,0 +1,116 @@
+package com.company.university.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(Duration.ofMinutes(1));
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWrites, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.counter(ReplicaRoutingDataSource.ROUTED_CONNECTIONS, "target", target, "reason", reason).count();
+    }
+
+    @Test
+    void getConnection_ShouldUseReplica_WhenReplicaIsCaughtUp() throws SQLException {
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+        assertEquals(1.0, routed("replica", "read-only"));
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenReplicaIsLagging() throws SQLException {
+        when(lagMonitor.isAvailable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(1.0, routed("primary", "replica-unavailable"));
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenUserWroteWithinWindow() throws SQLException {
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        authenticate("writer");
+        readYourWrites.recordWrite();
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(1.0, routed("primary", "read-your-writes"));
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_ShouldUseReplica_WhenAnotherUserWrote() throws SQLException {
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        authenticate("writer");
+        readYourWrites.recordWrite();
+        authenticate("reader");
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_ShouldFallBackToPrimary_WhenReplicaConnectionFails() throws SQLException {
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertEquals(1.0, routed("primary", "replica-error"));
+        verify(lagMonitor).markUnavailable();
+    }
+}
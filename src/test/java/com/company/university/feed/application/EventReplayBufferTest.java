@@ -0,0 +1,112 @@
+package com.company.university.feed.application;
+
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.domain.DomainEventType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventReplayBufferTest {
+
+    private final EventReplayBuffer buffer = new EventReplayBuffer(3);
+
+    private List<DomainEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new DomainEvent(id, DomainEventType.LECTURE_UPDATED, id, null, "{}", LocalDateTime.now()))
+                .toList();
+    }
+
+    private List<Long> ids(EventReplayBuffer.Read read) {
+        return read.events().stream().map(DomainEvent::id).toList();
+    }
+
+    @Test
+    void resumePosition_ShouldStartAfterLastSeenEvent() throws InterruptedException {
+        buffer.append(events(1, 3));
+
+        EventReplayBuffer.Read read = buffer.read(buffer.resumePosition(1), Duration.ZERO);
+
+        assertEquals(List.of(2L, 3L), ids(read));
+        assertEquals(3, read.next());
+    }
+
+    @Test
+    void resumePosition_ShouldStartAtNextLargerId_WhenLastSeenEventWasNeverBuffered() throws InterruptedException {
+        buffer.append(events(5, 6));
+
+        assertEquals(List.of(5L, 6L), ids(buffer.read(buffer.resumePosition(2), Duration.ZERO)));
+        assertEquals(buffer.head(), buffer.resumePosition(9));
+    }
+
+    @Test
+    void resumePosition_ShouldRequestResync_WhenLaterEventsWereDropped() {
+        buffer.append(events(1, 5));
+
+        assertEquals(EventReplayBuffer.RESYNC, buffer.resumePosition(1));
+        assertEquals(3, buffer.resumePosition(3));
+    }
+
+    @Test
+    void read_ShouldReportOverrun_WhenPositionWasOverwritten() throws InterruptedException {
+        buffer.append(events(1, 2));
+        long position = buffer.head();
+        buffer.append(events(3, 6));
+
+        EventReplayBuffer.Read read = buffer.read(position, Duration.ZERO);
+
+        assertTrue(read.overrun());
+        assertEquals(6, read.next());
+    }
+
+    @Test
+    void read_ShouldReturnEmpty_WhenNothingIsAppendedBeforeTimeout() throws InterruptedException {
+        EventReplayBuffer.Read read = buffer.read(buffer.head(), Duration.ofMillis(10));
+
+        assertTrue(read.isEmpty());
+        assertEquals(0, read.next());
+    }
+
+    @Test
+    void read_ShouldWakeUp_WhenEventIsAppended() throws Exception {
+        Thread appender = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            buffer.append(events(1, 1));
+        });
+
+        EventReplayBuffer.Read read = buffer.read(0, Duration.ofSeconds(10));
+
+        assertEquals(List.of(1L), ids(read));
+        appender.join();
+    }
+
+    @Test
+    void resumePosition_ShouldRequestResync_WhenIdIsOlderThanStart() {
+        buffer.startAfter(10);
+
+        assertEquals(EventReplayBuffer.RESYNC, buffer.resumePosition(9));
+        assertEquals(buffer.head(), buffer.resumePosition(10));
+    }
+
+    @Test
+    void markLost_ShouldOverrunEveryOpenPosition_IncludingCaughtUpOnes() throws InterruptedException {
+        buffer.append(events(1, 2));
+        long caughtUp = buffer.head();
+
+        buffer.markLost(5);
+        buffer.append(events(6, 6));
+
+        assertTrue(buffer.read(0, Duration.ZERO).overrun());
+        assertTrue(buffer.read(caughtUp, Duration.ZERO).overrun());
+        assertEquals(EventReplayBuffer.RESYNC, buffer.resumePosition(2));
+        assertEquals(buffer.head(), buffer.resumePosition(6));
+    }
+}
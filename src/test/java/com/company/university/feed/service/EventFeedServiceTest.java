@@ -0,0 +1,118 @@
+package com.company.university.feed.service;
+
+import com.company.university.feed.application.EventFeedFullException;
+import com.company.university.feed.config.EventFeedProperties;
+import com.company.university.feed.domain.EventLogRepository;
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.domain.DomainEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventFeedServiceTest {
+
+    @Mock
+    private EventLogRepository eventLogRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventFeedProperties properties = new EventFeedProperties();
+    private EventFeedService eventFeedService;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxSubscribers(2);
+        eventFeedService = new EventFeedService(properties, eventLogRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventFeedService.close();
+    }
+
+    private List<DomainEvent> events(long fromSeq, long toSeq) {
+        return LongStream.rangeClosed(fromSeq, toSeq)
+                .mapToObj(seq -> new DomainEvent(seq, DomainEventType.LECTURE_CREATED, seq, null, "{}", LocalDateTime.now()))
+                .toList();
+    }
+
+    @Test
+    void subscribe_ShouldThrow_WhenFeedIsFull() {
+        eventFeedService.subscribe(null);
+        eventFeedService.subscribe(7L);
+
+        assertThrows(EventFeedFullException.class, () -> eventFeedService.subscribe(null));
+        assertEquals(2.0, meterRegistry.get(EventFeedService.SUBSCRIBERS).gauge().value());
+    }
+
+    @Test
+    void close_ShouldReleaseSubscribers() {
+        eventFeedService.subscribe(null);
+
+        eventFeedService.close();
+
+        assertEquals(0.0, meterRegistry.get(EventFeedService.SUBSCRIBERS).gauge().value());
+        assertDoesNotThrow(() -> eventFeedService.subscribe(null));
+    }
+
+    @Test
+    void poll_ShouldTailLogFromItsEndAtStartup() {
+        when(eventLogRepository.lastSeq()).thenReturn(40L);
+        when(eventLogRepository.findAfter(40L, EventFeedService.POLL_BATCH_SIZE)).thenReturn(events(41, 42));
+        when(eventLogRepository.findAfter(42L, EventFeedService.POLL_BATCH_SIZE)).thenReturn(List.of());
+
+        eventFeedService.poll();
+        eventFeedService.poll();
+
+        verify(eventLogRepository, times(1)).lastSeq();
+        verify(eventLogRepository).findAfter(42L, EventFeedService.POLL_BATCH_SIZE);
+        verify(eventLogRepository, never()).firstSeq();
+    }
+
+    @Test
+    void poll_ShouldKeepReading_WhileBatchesAreFull() {
+        when(eventLogRepository.lastSeq()).thenReturn(0L);
+        when(eventLogRepository.findAfter(0L, EventFeedService.POLL_BATCH_SIZE))
+                .thenReturn(events(1, EventFeedService.POLL_BATCH_SIZE));
+        when(eventLogRepository.findAfter(EventFeedService.POLL_BATCH_SIZE, EventFeedService.POLL_BATCH_SIZE))
+                .thenReturn(events(EventFeedService.POLL_BATCH_SIZE + 1, EventFeedService.POLL_BATCH_SIZE + 1));
+
+        eventFeedService.poll();
+
+        verify(eventLogRepository, times(2)).findAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void poll_ShouldCheckForExpiredEvents_OnlyWhenSeqSkips() {
+        when(eventLogRepository.lastSeq()).thenReturn(10L);
+        when(eventLogRepository.findAfter(10L, EventFeedService.POLL_BATCH_SIZE)).thenReturn(events(12, 12));
+        when(eventLogRepository.firstSeq()).thenReturn(3L);
+
+        eventFeedService.poll();
+
+        verify(eventLogRepository).firstSeq();
+    }
+
+    @Test
+    void poll_ShouldCountFailure_WhenLogIsUnavailable() {
+        when(eventLogRepository.lastSeq()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        eventFeedService.poll();
+
+        assertEquals(1.0, meterRegistry.counter(EventFeedService.POLL_FAILURES).count());
+    }
+}
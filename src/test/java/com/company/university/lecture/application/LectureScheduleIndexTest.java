@@ -0,0 +1,132 @@
+package com.company.university.lecture.application;
+
+import com.company.university.lecture.config.LectureScheduleIndexProperties;
+import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.lecture.domain.LectureSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureScheduleIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 11, 24, 0, 0);
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    private LectureScheduleIndexProperties properties;
+    private LectureScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LectureScheduleIndexProperties();
+        properties.setEnabled(true);
+        index = new LectureScheduleIndex(lectureRepository, properties);
+    }
+
+    private LectureSlot slot(long id, String room, long lecturerId, int startHour, int endHour) {
+        return new LectureSlot(id, room, lecturerId, MONDAY.plusHours(startHour), MONDAY.plusHours(endHour));
+    }
+
+    @Test
+    void load_ShouldNotQueryRepository_WhenDisabled() {
+        properties.setEnabled(false);
+
+        index.load();
+
+        assertFalse(index.isReady());
+        verifyNoInteractions(lectureRepository);
+    }
+
+    @Test
+    void overlaps_ShouldDetectRoomAndLecturerConflicts() {
+        when(lectureRepository.findAllSlots()).thenReturn(List.of(slot(1L, "101", 1L, 9, 11)));
+        index.load();
+
+        assertTrue(index.isReady());
+        assertTrue(index.overlaps(null, MONDAY.plusHours(10), MONDAY.plusHours(12), "101", 2L));
+        assertTrue(index.overlaps(null, MONDAY.plusHours(10), MONDAY.plusHours(12), "202", 1L));
+        assertFalse(index.overlaps(null, MONDAY.plusHours(10), MONDAY.plusHours(12), "202", 2L));
+    }
+
+    @Test
+    void overlaps_ShouldTreatTouchingLecturesAsFree() {
+        when(lectureRepository.findAllSlots()).thenReturn(List.of(slot(1L, "101", 1L, 9, 11)));
+        index.load();
+
+        assertFalse(index.overlaps(null, MONDAY.plusHours(11), MONDAY.plusHours(12), "101", 1L));
+        assertFalse(index.overlaps(null, MONDAY.plusHours(8), MONDAY.plusHours(9), "101", 1L));
+    }
+
+    @Test
+    void overlaps_ShouldIgnoreLectureBeingUpdated() {
+        when(lectureRepository.findAllSlots()).thenReturn(List.of(slot(1L, "101", 1L, 9, 11)));
+        index.load();
+
+        assertFalse(index.overlaps(1L, MONDAY.plusHours(10), MONDAY.plusHours(12), "101", 1L));
+    }
+
+    @Test
+    void onSaved_ShouldMoveLectureToNewSlot() {
+        when(lectureRepository.findAllSlots()).thenReturn(List.of(slot(1L, "101", 1L, 9, 11)));
+        index.load();
+
+        index.onSaved(slot(1L, "202", 1L, 14, 15));
+
+        assertFalse(index.overlaps(null, MONDAY.plusHours(9), MONDAY.plusHours(11), "101", 2L));
+        assertTrue(index.overlaps(null, MONDAY.plusHours(14), MONDAY.plusHours(16), "202", 2L));
+    }
+
+    @Test
+    void onDeleted_ShouldFreeSlot() {
+        when(lectureRepository.findAllSlots()).thenReturn(List.of(slot(1L, "101", 1L, 9, 11)));
+        index.load();
+
+        index.onDeleted(1L);
+
+        assertFalse(index.overlaps(null, MONDAY.plusHours(9), MONDAY.plusHours(11), "101", 1L));
+    }
+
+    @Test
+    void intervalTree_ShouldMatchLinearScan_AfterRandomInsertsAndRemovals() {
+        IntervalTree tree = new IntervalTree();
+        List<LectureSlot> slots = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (long id = 1; id <= 500; id++) {
+            int start = random.nextInt(1000);
+            LectureSlot slot = slot(id, "101", 1L, start, start + 1 + random.nextInt(10));
+            slots.add(slot);
+            tree.insert(slot.id(), slot.startDateTime(), slot.endDateTime());
+        }
+        for (int i = 0; i < 200; i++) {
+            LectureSlot removed = slots.remove(random.nextInt(slots.size()));
+            tree.remove(removed.id(), removed.startDateTime());
+        }
+
+        assertEquals(slots.size(), tree.size());
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = MONDAY.plusHours(random.nextInt(1000));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(5));
+
+            List<Long> expected = slots.stream()
+                    .filter(s -> s.endDateTime().isAfter(start) && s.startDateTime().isBefore(end))
+                    .map(LectureSlot::id)
+                    .sorted()
+                    .toList();
+
+            assertEquals(expected, tree.findOverlapping(start, end, null).stream().sorted().toList());
+        }
+    }
+}
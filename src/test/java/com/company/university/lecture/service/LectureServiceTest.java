@@ -1,29 +1,46 @@
 package com.company.university.lecture.service;
 
+import com.company.university.cache.config.ResponseCacheProperties;
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
+import com.company.university.lecture.application.LectureMapper;
 import com.company.university.lecture.application.BusinessValidationException;
 import com.company.university.lecture.application.LectureNotFoundException;
+import com.company.university.lecture.application.LectureScheduleIndex;
 import com.company.university.lecture.application.LectureValidator;
 import com.company.university.lecture.domain.Lecture;
 import com.company.university.lecture.domain.LectureRepository;
 import com.company.university.lecture.dto.CreateLectureRequest;
+import com.company.university.lecture.dto.CreateLecturesRequest;
+import com.company.university.lecture.dto.CreateLecturesResponse;
 import com.company.university.lecture.dto.FindLectureResponse;
 import com.company.university.lecture.dto.UpdateLectureRequest;
 import com.company.university.lecture.util.LectureTestUtils;
 import com.company.university.lecturer.application.LecturerNotFoundException;
 import com.company.university.lecturer.domain.Lecturer;
 import com.company.university.lecturer.domain.LecturerRepository;
+import com.company.university.metrics.ValidationMetrics;
+import com.company.university.outbox.domain.DomainEventType;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.service.OutboxService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +56,24 @@ class LectureServiceTest {
     @Mock
     private LecturerRepository lecturerRepository;
 
+    @Mock
+    private LectureScheduleIndex scheduleIndex;
+
+    @Mock
+    private SecondLevelCacheService secondLevelCache;
+
+    @Mock
+    private ValidationMetrics validationMetrics;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private ResponseCacheService responseCache = new ResponseCacheService(new ResponseCacheProperties());
+
     @InjectMocks
     private LectureService lectureService;
 
@@ -68,7 +103,7 @@ class LectureServiceTest {
 
     @Test
     void getLectures_ShouldReturnList() {
-        when(lectureRepository.findAll()).thenReturn(List.of(lecture));
+        when(lectureRepository.findAllResponses()).thenReturn(List.of(LectureMapper.findLectureResponse(lecture)));
 
         var result = lectureService.getLectures();
 
@@ -85,6 +120,20 @@ class LectureServiceTest {
         assertEquals("Math", result.getTitle());
     }
 
+    @Test
+    void getLecture_ShouldServeRepeatedReadsFromCache_UntilLectureIsDeleted() {
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+
+        lectureService.getLecture(1L);
+        lectureService.getLecture(1L);
+        verify(lectureRepository, times(1)).findById(1L);
+
+        lectureService.deleteLecture(1L);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(LectureNotFoundException.class, () -> lectureService.getLecture(1L));
+    }
+
     @Test
     void getLecture_ShouldThrowException_WhenNotFound() {
         when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
@@ -95,9 +144,9 @@ class LectureServiceTest {
     @Test
     void getLecturesWithPageableAndNullDates_ShouldReturnAll() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Lecture> page = new PageImpl<>(List.of(lecture));
+        Page<FindLectureResponse> page = new PageImpl<>(List.of(LectureMapper.findLectureResponse(lecture)));
 
-        when(lectureRepository.findAll(pageable)).thenReturn(page);
+        when(lectureRepository.findResponsePage(pageable)).thenReturn(page);
 
         Page<FindLectureResponse> result = lectureService.getLectures(pageable, null, null);
 
@@ -109,11 +158,11 @@ class LectureServiceTest {
         LocalDate startDate = LocalDate.of(2025, 11, 20);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(lectureRepository.findByStartDateTimeBetween(
+        when(lectureRepository.findResponsePageStartingBetween(
                 eq(startDate.atStartOfDay()),
                 any(LocalDateTime.class),
                 eq(pageable)
-        )).thenReturn(new PageImpl<>(List.of(lecture)));
+        )).thenReturn(new PageImpl<>(List.of(LectureMapper.findLectureResponse(lecture))));
 
         Page<FindLectureResponse> result = lectureService.getLectures(pageable, startDate, null);
 
@@ -125,11 +174,11 @@ class LectureServiceTest {
         LocalDate endDate = LocalDate.of(2025, 11, 22);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(lectureRepository.findByStartDateTimeBetween(
+        when(lectureRepository.findResponsePageStartingBetween(
                 any(LocalDateTime.class),
                 eq(endDate.atTime(LocalTime.MAX)),
                 eq(pageable)
-        )).thenReturn(new PageImpl<>(List.of(lecture)));
+        )).thenReturn(new PageImpl<>(List.of(LectureMapper.findLectureResponse(lecture))));
 
         Page<FindLectureResponse> result = lectureService.getLectures(pageable, null, endDate);
 
@@ -142,11 +191,11 @@ class LectureServiceTest {
         LocalDate endDate = LocalDate.of(2025, 11, 22);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(lectureRepository.findByStartDateTimeBetween(
+        when(lectureRepository.findResponsePageStartingBetween(
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX)),
                 eq(pageable)
-        )).thenReturn(new PageImpl<>(List.of(lecture)));
+        )).thenReturn(new PageImpl<>(List.of(LectureMapper.findLectureResponse(lecture))));
 
         Page<FindLectureResponse> result = lectureService.getLectures(pageable, startDate, endDate);
 
@@ -156,9 +205,9 @@ class LectureServiceTest {
     @Test
     void getLecturesByDate_ShouldReturnLectures() {
         LocalDate date = LocalDate.of(2025, 11, 21);
-        when(lectureRepository.findByStartDateTimeBetween(
+        when(lectureRepository.findResponsesStartingBetween(
                 any(LocalDateTime.class), any(LocalDateTime.class)
-        )).thenReturn(List.of(lecture));
+        )).thenReturn(List.of(LectureMapper.findLectureResponse(lecture)));
 
         var result = lectureService.getLectures(date);
 
@@ -178,13 +227,13 @@ class LectureServiceTest {
 
         when(lecturerRepository.findById(lecturer.getId())).thenReturn(Optional.of(lecturer));
         doNothing().when(lectureValidator).validateCreate(request);
-        when(lectureRepository.save(any())).thenReturn(lecture);
+        when(lectureRepository.saveAndFlush(any())).thenReturn(lecture);
 
         var response = lectureService.createLecture(request);
 
         assertEquals(lecture.getTitle(), response.getTitle());
         verify(lectureValidator).validateCreate(request);
-        verify(lectureRepository).save(any(Lecture.class));
+        verify(lectureRepository).saveAndFlush(any(Lecture.class));
     }
 
     @Test
@@ -211,13 +260,174 @@ class LectureServiceTest {
 
         when(lecturerRepository.findById(lecturer.getId())).thenReturn(java.util.Optional.of(lecturer));
         doNothing().when(lectureValidator).validateCreate(request);
-        when(lectureRepository.save(any(Lecture.class))).thenReturn(lecture);
+        when(lectureRepository.saveAndFlush(any(Lecture.class))).thenReturn(lecture);
 
         var response = lectureService.createLecture(request);
 
         assertEquals("Math", response.getTitle());
         verify(lectureValidator).validateCreate(request);
-        verify(lectureRepository).save(any(Lecture.class));
+        verify(lectureRepository).saveAndFlush(any(Lecture.class));
+        verify(scheduleIndex).onSaved(any());
+    }
+
+    @Test
+    void createLecture_ShouldThrowBusinessValidationException_WhenRoomExclusionConstraintIsViolated() {
+        CreateLectureRequest request = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+        SQLException exclusionViolation = new SQLException(
+                "ERROR: conflicting key value violates exclusion constraint \"ex_lecture_room_time\"", "23P01");
+
+        when(lecturerRepository.findById(lecturer.getId())).thenReturn(Optional.of(lecturer));
+        when(lectureRepository.saveAndFlush(any(Lecture.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", exclusionViolation));
+
+        BusinessValidationException ex = assertThrows(BusinessValidationException.class,
+                () -> lectureService.createLecture(request));
+
+        assertEquals("Lecture overlaps another lecture in the same room.", ex.getMessage());
+        verify(scheduleIndex, never()).onSaved(any());
+        verify(validationMetrics).rejected("lecture-overlap-constraint");
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void createLecture_ShouldRethrowDataIntegrityViolation_WhenOtherConstraintIsViolated() {
+        CreateLectureRequest request = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+        DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("null value in column", "23502"));
+
+        when(lecturerRepository.findById(lecturer.getId())).thenReturn(Optional.of(lecturer));
+        when(lectureRepository.saveAndFlush(any(Lecture.class))).thenThrow(notNullViolation);
+
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> lectureService.createLecture(request));
+
+        assertSame(notNullViolation, ex);
+    }
+
+    @Test
+    void createLectures_ShouldSaveAndIndexLectures_WithoutOverlapPrecheck() {
+        CreateLectureRequest request = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+
+        when(lecturerRepository.findAllById(Set.of(lecturer.getId()))).thenReturn(List.of(lecturer));
+        when(entityManager.getReference(Lecturer.class, lecturer.getId())).thenReturn(lecturer);
+        when(lectureRepository.saveAll(anyList())).thenReturn(List.of(lecture, lecture));
+
+        CreateLecturesResponse response = lectureService.createLectures(new CreateLecturesRequest(List.of(request, request)));
+
+        assertEquals(2, response.created());
+        verify(lectureValidator, times(2)).validateTimeRange(request);
+        verify(lectureValidator, never()).validateCreate(any());
+        verify(lectureRepository).flush();
+        verify(scheduleIndex, times(2)).onSaved(any());
+    }
+
+    @Test
+    void createLectures_ShouldThrowException_WhenRequestIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> lectureService.createLectures(null));
+        assertThrows(IllegalArgumentException.class, () -> lectureService.createLectures(new CreateLecturesRequest(null)));
+        assertThrows(IllegalArgumentException.class, () -> lectureService.createLectures(new CreateLecturesRequest(List.of())));
+        verify(lectureRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createLectures_ShouldThrowException_WhenRequiredFieldIsMissing() {
+        CreateLectureRequest noEnd = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+        CreateLectureRequest noLecturer = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .build();
+        CreateLectureRequest noTitle = CreateLectureRequest.builder()
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+        CreateLectureRequest blankRoom = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber(" ")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+        List<CreateLectureRequest> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(List.of(noEnd))));
+        assertThrows(IllegalArgumentException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(List.of(noLecturer))));
+        assertThrows(IllegalArgumentException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(List.of(noTitle))));
+        assertThrows(IllegalArgumentException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(List.of(blankRoom))));
+        assertThrows(IllegalArgumentException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(withNull)));
+        verify(lecturerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void createLectures_ShouldThrowLecturerNotFound_WhenAnyLecturerIsMissing() {
+        CreateLectureRequest request = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(2L)
+                .build();
+        when(lecturerRepository.findAllById(Set.of(2L))).thenReturn(List.of());
+
+        assertThrows(LecturerNotFoundException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(List.of(request))));
+        verify(lectureRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createLectures_ShouldThrowBusinessValidationException_WhenImportedLecturesOverlap() {
+        CreateLectureRequest request = CreateLectureRequest.builder()
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+        SQLException exclusionViolation = new SQLException(
+                "ERROR: conflicting key value violates exclusion constraint \"ex_lecture_lecturer_time\"", "23P01");
+
+        when(lecturerRepository.findAllById(Set.of(lecturer.getId()))).thenReturn(List.of(lecturer));
+        when(lectureRepository.saveAll(anyList())).thenReturn(List.of(lecture, lecture));
+        doThrow(new DataIntegrityViolationException("could not execute batch", exclusionViolation))
+                .when(lectureRepository).flush();
+
+        BusinessValidationException ex = assertThrows(BusinessValidationException.class,
+                () -> lectureService.createLectures(new CreateLecturesRequest(List.of(request, request))));
+
+        assertEquals("Lecture overlaps another lecture of the same lecturer.", ex.getMessage());
+        verify(scheduleIndex, never()).onSaved(any());
     }
 
     @Test
@@ -343,13 +553,32 @@ class LectureServiceTest {
         when(lecturerRepository.findById(lecturer.getId())).thenReturn(Optional.of(lecturer));
         when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
         doNothing().when(lectureValidator).validateUpdate(1L, request);
-        when(lectureRepository.save(any())).thenReturn(lecture);
+        when(lectureRepository.saveAndFlush(any())).thenReturn(lecture);
 
         var response = lectureService.updateLecture(1L, request);
 
         assertEquals("Math Updated", response.getTitle()); // LectureMapper używa danych z encji
         verify(lectureValidator).validateUpdate(1L, request);
-        verify(lectureRepository).save(any(Lecture.class));
+        verify(lectureRepository).saveAndFlush(any(Lecture.class));
+    }
+
+    @Test
+    void updateLecture_ShouldAppendUpdatedEvent() {
+        UpdateLectureRequest request = UpdateLectureRequest.builder()
+                .title("Math Updated")
+                .roomNumber("101")
+                .startDateTime(lecture.getStartDateTime())
+                .endDateTime(lecture.getEndDateTime())
+                .lecturerId(lecturer.getId())
+                .build();
+
+        when(lecturerRepository.findById(lecturer.getId())).thenReturn(Optional.of(lecturer));
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        when(lectureRepository.saveAndFlush(any())).thenReturn(lecture);
+
+        lectureService.updateLecture(1L, request);
+
+        verify(outboxService).lecturesSaved(DomainEventType.LECTURE_UPDATED, List.of(lecture));
     }
 
     @Test
@@ -388,13 +617,13 @@ class LectureServiceTest {
         when(lecturerRepository.findById(lecturer.getId())).thenReturn(java.util.Optional.of(lecturer));
         when(lectureRepository.findById(1L)).thenReturn(java.util.Optional.of(lecture));
         doNothing().when(lectureValidator).validateUpdate(1L, request);
-        when(lectureRepository.save(any())).thenReturn(lecture);
+        when(lectureRepository.saveAndFlush(any())).thenReturn(lecture);
 
         var response = lectureService.updateLecture(1L, request);
 
         assertEquals("Math Updated", response.getTitle());
         verify(lectureValidator).validateUpdate(1L, request);
-        verify(lectureRepository).save(any(Lecture.class));
+        verify(lectureRepository).saveAndFlush(any(Lecture.class));
     }
 
 
@@ -405,13 +634,22 @@ class LectureServiceTest {
         lectureService.deleteLecture(1L);
 
         verify(lectureRepository).deleteById(1L);
+        verify(scheduleIndex).onDeleted(1L);
+        verify(secondLevelCache).evictAllStudentLectures();
+    }
+
+    @Test
+    void deleteLecture_ShouldAppendDeletedEvent() {
+        lectureService.deleteLecture(1L);
+
+        verify(outboxService).append(OutboxEvent.lectureDeleted(1L));
     }
 
     @Test
     void getLecturesWithPagination_ShouldReturnPage() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
-        Page<Lecture> page = new PageImpl<>(List.of(lecture));
-        when(lectureRepository.findAll(pageable)).thenReturn(page);
+        Page<FindLectureResponse> page = new PageImpl<>(List.of(LectureMapper.findLectureResponse(lecture)));
+        when(lectureRepository.findResponsePage(pageable)).thenReturn(page);
 
         Page<FindLectureResponse> result = lectureService.getLectures(0, 10, "title", "asc");
 
@@ -17,6 +17,6 @@ public class LectureTestUtils {
 
         verify(lecturerRepository, times(1)).findById(request.getLecturerId());
 
-        verify(lectureRepository, never()).save(any(Lecture.class));
+        verify(lectureRepository, never()).saveAndFlush(any(Lecture.class));
     }
 }
@@ -1,9 +1,20 @@
 package com.company.university.lecturer.service;
 
+import com.company.university.cache.config.ResponseCacheProperties;
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
+import com.company.university.lecture.application.LectureScheduleIndex;
 import com.company.university.lecture.domain.Lecture;
+import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.lecturer.application.LecturerMapper;
 import com.company.university.lecturer.application.LecturerNotFoundException;
 import com.company.university.lecturer.domain.Lecturer;
 import com.company.university.lecturer.domain.LecturerRepository;
+import com.company.university.lecturer.domain.LecturerSearchRepository;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.service.OutboxService;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
 import com.company.university.lecturer.dto.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,8 +22,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
@@ -26,6 +40,24 @@ class LecturerServiceTest {
     @Mock
     private LecturerRepository lecturerRepository;
 
+    @Mock
+    private SecondLevelCacheService secondLevelCache;
+
+    @Mock
+    private LecturerSearchRepository searchRepository;
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @Mock
+    private LectureScheduleIndex scheduleIndex;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private ResponseCacheService responseCache = new ResponseCacheService(new ResponseCacheProperties());
+
     @InjectMocks
     private LecturerService lecturerService;
 
@@ -123,8 +155,8 @@ class LecturerServiceTest {
     @Test
     void getLecturers_ShouldUseAscendingSort_WhenDirectionIsAsc() {
         // Arrange
-        Page<Lecturer> page = new PageImpl<>(List.of(lecturer));
-        when(lecturerRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<FindLecturerResponse> page = new PageImpl<>(List.of(LecturerMapper.findLecturerResponse(lecturer)));
+        when(lecturerRepository.findResponsePage(any(Pageable.class))).thenReturn(page);
         String sortBy = "name";
         String direction = "asc";
 
@@ -133,7 +165,7 @@ class LecturerServiceTest {
 
         // Assert
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(lecturerRepository).findAll(pageableCaptor.capture());
+        verify(lecturerRepository).findResponsePage(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertTrue(capturedPageable.getSort().isSorted());
@@ -143,8 +175,8 @@ class LecturerServiceTest {
     @Test
     void getLecturers_ShouldDefaultToSortAsc_WhenDirectionIsInvalid() {
         // Arrange
-        Page<Lecturer> page = new PageImpl<>(List.of(lecturer));
-        when(lecturerRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<FindLecturerResponse> page = new PageImpl<>(List.of(LecturerMapper.findLecturerResponse(lecturer)));
+        when(lecturerRepository.findResponsePage(any(Pageable.class))).thenReturn(page);
         String sortBy = "name";
         String direction = "INVALID_DIRECTION";
 
@@ -153,7 +185,7 @@ class LecturerServiceTest {
 
         // Assert
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(lecturerRepository).findAll(pageableCaptor.capture());
+        verify(lecturerRepository).findResponsePage(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(Sort.Direction.ASC, capturedPageable.getSort().getOrderFor(sortBy).getDirection());
@@ -162,8 +194,8 @@ class LecturerServiceTest {
     @Test
     void getLecturers_ShouldUseDescendingSort_WhenDirectionIsDesc() {
         // Arrange
-        Page<Lecturer> page = new PageImpl<>(List.of(lecturer));
-        when(lecturerRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<FindLecturerResponse> page = new PageImpl<>(List.of(LecturerMapper.findLecturerResponse(lecturer)));
+        when(lecturerRepository.findResponsePage(any(Pageable.class))).thenReturn(page);
         String sortBy = "name";
         String direction = "DESC";
 
@@ -172,7 +204,7 @@ class LecturerServiceTest {
 
         // Assert
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(lecturerRepository).findAll(pageableCaptor.capture());
+        verify(lecturerRepository).findResponsePage(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(Sort.Direction.DESC, capturedPageable.getSort().getOrderFor(sortBy).getDirection());
@@ -181,7 +213,7 @@ class LecturerServiceTest {
     @Test
     void getLecturers_ShouldHandleEmptyListSuccessfully() {
         // Arrange
-        when(lecturerRepository.findAll()).thenReturn(List.of());
+        when(lecturerRepository.findAllResponses()).thenReturn(List.of());
 
         // Act
         List<FindLecturerResponse> lecturers = lecturerService.getLecturers();
@@ -189,14 +221,14 @@ class LecturerServiceTest {
         // Assert
         assertNotNull(lecturers);
         assertTrue(lecturers.isEmpty());
-        verify(lecturerRepository, times(1)).findAll();
+        verify(lecturerRepository, times(1)).findAllResponses();
     }
 
     @Test
     void getLecturersWithPagination_ShouldHandleDefaultAscendingSort() {
         // Arrange
-        Page<Lecturer> page = new PageImpl<>(List.of(lecturer));
-        when(lecturerRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<FindLecturerResponse> page = new PageImpl<>(List.of(LecturerMapper.findLecturerResponse(lecturer)));
+        when(lecturerRepository.findResponsePage(any(Pageable.class))).thenReturn(page);
         String sortBy = "email";
         String direction = "aSc";
 
@@ -205,7 +237,7 @@ class LecturerServiceTest {
 
         // Assert
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(lecturerRepository).findAll(pageableCaptor.capture());
+        verify(lecturerRepository).findResponsePage(pageableCaptor.capture());
 
         Pageable capturedPageable = pageableCaptor.getValue();
         assertEquals(Sort.Direction.ASC, capturedPageable.getSort().getOrderFor(sortBy).getDirection());
@@ -227,6 +259,22 @@ class LecturerServiceTest {
         assertThrows(LecturerNotFoundException.class, () -> lecturerService.createLecturer(request));
     }
 
+    @Test
+    void getLecturer_ShouldServeRepeatedReadsFromCache_UntilLecturerIsUpdated() {
+        when(lecturerRepository.findById(1L)).thenReturn(Optional.of(lecturer));
+        when(lecturerRepository.saveAndFlush(any(Lecturer.class))).thenReturn(lecturer);
+
+        lecturerService.getLecturer(1L);
+        lecturerService.getLecturer(1L);
+        verify(lecturerRepository, times(1)).findById(1L);
+
+        lecturerService.updateLecturer(1L, UpdateLecturerRequest.builder().name("Jane").build());
+        FindLecturerResponse response = lecturerService.getLecturer(1L);
+
+        assertEquals("Jane", response.getName());
+        verify(lecturerRepository, times(3)).findById(1L);
+    }
+
     @Test
     void updateLecturer_ShouldThrowException_WhenLecturerIdNotFound() {
         // Arrange
@@ -244,7 +292,7 @@ class LecturerServiceTest {
                 () -> lecturerService.updateLecturer(nonExistentId, request));
 
         assertEquals("Lecturer not found with id: 99", exception.getMessage());
-        verify(lecturerRepository, never()).save(any(Lecturer.class));
+        verify(lecturerRepository, never()).saveAndFlush(any(Lecturer.class));
     }
 
     @Test
@@ -258,7 +306,7 @@ class LecturerServiceTest {
                 .build();
 
         when(lecturerRepository.findById(1L)).thenReturn(Optional.of(lecturer));
-        when(lecturerRepository.save(any(Lecturer.class))).thenReturn(lecturer);
+        when(lecturerRepository.saveAndFlush(any(Lecturer.class))).thenReturn(lecturer);
 
         // Act
         UpdateLecturerResponse response = lecturerService.updateLecturer(1L, request);
@@ -269,7 +317,7 @@ class LecturerServiceTest {
         assertEquals("jane.smith@example.com", response.getEmail());
 
         ArgumentCaptor<Lecturer> lecturerCaptor = ArgumentCaptor.forClass(Lecturer.class);
-        verify(lecturerRepository).save(lecturerCaptor.capture());
+        verify(lecturerRepository).saveAndFlush(lecturerCaptor.capture());
 
         Lecturer capturedLecturer = lecturerCaptor.getValue();
         assertEquals("Jane", capturedLecturer.getName());
@@ -289,14 +337,14 @@ class LecturerServiceTest {
                 .dateOfBirth(null)
                 .build();
 
-        when(lecturerRepository.save(any(Lecturer.class))).thenReturn(lecturer);
+        when(lecturerRepository.saveAndFlush(any(Lecturer.class))).thenReturn(lecturer);
 
         // Act
         lecturerService.updateLecturer(1L, request);
 
         // Assert
         ArgumentCaptor<Lecturer> lecturerCaptor = ArgumentCaptor.forClass(Lecturer.class);
-        verify(lecturerRepository).save(lecturerCaptor.capture());
+        verify(lecturerRepository).saveAndFlush(lecturerCaptor.capture());
 
         Lecturer capturedLecturer = lecturerCaptor.getValue();
 
@@ -316,11 +364,11 @@ class LecturerServiceTest {
                 .build();
 
         when(lecturerRepository.findById(1L)).thenReturn(Optional.of(lecturer));
-        when(lecturerRepository.save(any(Lecturer.class))).thenReturn(lecturer);
+        when(lecturerRepository.saveAndFlush(any(Lecturer.class))).thenReturn(lecturer);
 
         // Act
         lecturerService.updateLecturer(1L, request);
-        verify(lecturerRepository, times(1)).save(lecturer);
+        verify(lecturerRepository, times(1)).saveAndFlush(lecturer);
 
        // Assert
         assertEquals("John", lecturer.getName());
@@ -347,23 +395,23 @@ class LecturerServiceTest {
 
     @Test
     void shouldGetAllLecturers() {
-        when(lecturerRepository.findAll()).thenReturn(List.of(lecturer));
+        when(lecturerRepository.findAllResponses()).thenReturn(List.of(LecturerMapper.findLecturerResponse(lecturer)));
 
         List<FindLecturerResponse> lecturers = lecturerService.getLecturers();
 
         assertEquals(1, lecturers.size());
-        verify(lecturerRepository, times(1)).findAll();
+        verify(lecturerRepository, times(1)).findAllResponses();
     }
 
     @Test
     void shouldGetLecturersWithPagination() {
-        Page<Lecturer> page = new PageImpl<>(List.of(lecturer));
-        when(lecturerRepository.findAll(any(Pageable.class))).thenReturn(page);
+        Page<FindLecturerResponse> page = new PageImpl<>(List.of(LecturerMapper.findLecturerResponse(lecturer)));
+        when(lecturerRepository.findResponsePage(any(Pageable.class))).thenReturn(page);
 
         Page<FindLecturerResponse> responsePage = lecturerService.getLecturers(0, 10, "name", "asc");
 
         assertEquals(1, responsePage.getContent().size());
-        verify(lecturerRepository, times(1)).findAll(any(Pageable.class));
+        verify(lecturerRepository, times(1)).findResponsePage(any(Pageable.class));
     }
 
     @Test
@@ -375,13 +423,23 @@ class LecturerServiceTest {
                 .build();
 
         when(lecturerRepository.findById(1L)).thenReturn(Optional.of(lecturer));
-        when(lecturerRepository.save(lecturer)).thenReturn(lecturer);
+        when(lecturerRepository.saveAndFlush(lecturer)).thenReturn(lecturer);
 
         UpdateLecturerResponse response = lecturerService.updateLecturer(1L, request);
 
         assertNotNull(response);
         verify(lecturerRepository, times(1)).findById(1L);
-        verify(lecturerRepository, times(1)).save(lecturer);
+        verify(lecturerRepository, times(1)).saveAndFlush(lecturer);
+    }
+
+    @Test
+    void updateLecturer_ShouldThrowOptimisticLockingFailure_WhenVersionDoesNotMatch() {
+        UpdateLecturerRequest request = UpdateLecturerRequest.builder().name("Jane").build();
+        lecturer.setVersion(3L);
+        when(lecturerRepository.findById(1L)).thenReturn(Optional.of(lecturer));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> lecturerService.updateLecturer(1L, request, 2L));
+        verify(lecturerRepository, never()).saveAndFlush(any(Lecturer.class));
     }
 
     @Test
@@ -391,6 +449,26 @@ class LecturerServiceTest {
         lecturerService.deleteLecturer(1L);
 
         verify(lecturerRepository, times(1)).deleteById(1L);
+        verify(secondLevelCache).evictAllStudentLectures();
+    }
+
+    @Test
+    void deleteLecturer_ShouldRemoveCascadedLecturesFromScheduleIndex() {
+        when(lectureRepository.findIdsByLecturerId(1L)).thenReturn(List.of(10L, 11L));
+
+        lecturerService.deleteLecturer(1L);
+
+        verify(scheduleIndex).onDeleted(10L);
+        verify(scheduleIndex).onDeleted(11L);
+    }
+
+    @Test
+    void deleteLecturer_ShouldAppendLectureDeletedEventForEveryCascadedLecture() {
+        when(lectureRepository.findIdsByLecturerId(1L)).thenReturn(List.of(10L, 11L));
+
+        lecturerService.deleteLecturer(1L);
+
+        verify(outboxService).appendAll(List.of(OutboxEvent.lectureDeleted(10L), OutboxEvent.lectureDeleted(11L)));
     }
 
     @Test
@@ -402,14 +480,14 @@ class LecturerServiceTest {
                 .build();
 
         when(lecturerRepository.findById(1L)).thenReturn(Optional.of(lecturer));
-        when(lecturerRepository.save(any(Lecturer.class))).thenReturn(lecturer);
+        when(lecturerRepository.saveAndFlush(any(Lecturer.class))).thenReturn(lecturer);
 
         // Act
         lecturerService.updateLecturer(1L, request);
 
         // Assert
         ArgumentCaptor<Lecturer> lecturerCaptor = ArgumentCaptor.forClass(Lecturer.class);
-        verify(lecturerRepository).save(lecturerCaptor.capture());
+        verify(lecturerRepository).saveAndFlush(lecturerCaptor.capture());
 
         Lecturer capturedLecturer = lecturerCaptor.getValue();
 
@@ -557,4 +635,17 @@ class LecturerServiceTest {
         assertFalse(lecturer.getLectures().contains(lecture));
         verify(lecturerRepository, times(1)).findById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchLecturers_ShouldMapHitsWithoutNextCursor_WhenLastPage() {
+        when(searchRepository.search(any(SearchQuery.class), isNull(), eq(21)))
+                .thenReturn(List.of(new SearchHit<>(lecturer, new BigDecimal("0.75"))));
+
+        FindLecturersCursorResponse result = lecturerService.searchLecturers("doe", null, 20);
+
+        assertEquals(1, result.getSize());
+        assertEquals("john.doe@example.com", result.getContent().getFirst().getEmail());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+}
@@ -0,0 +1,99 @@
+package com.company.university.metrics;
+
+import com.company.university.metrics.config.QueryBudgetMode;
+import com.company.university.metrics.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestQueryCounterTest {
+
+    private static final String SELECT_LECTURER = "select l1_0.id,l1_0.name from lecturer l1_0 where l1_0.id=?";
+
+    private QueryBudgetProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestQueryCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QueryBudgetProperties();
+        properties.setDefaultLimit(3);
+        properties.setRepeatedStatementThreshold(3);
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new RequestQueryCounter(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        counter.stop();
+    }
+
+    private double violations(String type) {
+        return meterRegistry.counter(RequestQueryCounter.VIOLATIONS, "type", type, "endpoint", "GET:/api/lectures").count();
+    }
+
+    @Test
+    void inspect_ShouldCountStatementsOfCurrentRequestOnly() {
+        counter.inspect("select 1");
+
+        counter.start("GET:/api/lectures");
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+
+        assertEquals(2, counter.stop());
+        assertEquals(0, counter.stop());
+    }
+
+    @Test
+    void inspect_ShouldWarnAndCarryOn_WhenRepeatedStatementInWarnMode() {
+        counter.start("GET:/api/lectures");
+
+        for (int i = 0; i < 5; i++) {
+            counter.inspect(SELECT_LECTURER);
+        }
+
+        assertEquals(5, counter.stop());
+        assertEquals(1, violations("repeated-statement"));
+        assertEquals(1, violations("limit"));
+    }
+
+    @Test
+    void inspect_ShouldThrow_WhenRepeatedStatementInFailMode() {
+        properties.setMode(QueryBudgetMode.FAIL);
+        counter.start("GET:/api/lectures");
+        counter.inspect(SELECT_LECTURER);
+        counter.inspect(SELECT_LECTURER);
+
+        QueryBudgetExceededException ex = assertThrows(QueryBudgetExceededException.class,
+                () -> counter.inspect(SELECT_LECTURER));
+
+        assertTrue(ex.getMessage().contains("N+1"));
+    }
+
+    @Test
+    void inspect_ShouldUseEndpointLimit_WhenHandlerIsKnown() {
+        properties.setMode(QueryBudgetMode.FAIL);
+        properties.getEndpoints().put("GET:/api/lectures", 1);
+        counter.start("GET:UNKNOWN");
+        counter.limitTo("GET:/api/lectures");
+        counter.inspect("select 1");
+
+        assertThrows(QueryBudgetExceededException.class, () -> counter.inspect("select 2"));
+    }
+
+    @Test
+    void inspect_ShouldOnlyCount_WhenDisabled() {
+        properties.setEnabled(false);
+        properties.setMode(QueryBudgetMode.FAIL);
+        counter.start("GET:/api/lectures");
+
+        for (int i = 0; i < 5; i++) {
+            counter.inspect(SELECT_LECTURER);
+        }
+
+        assertEquals(5, counter.stop());
+    }
+}
@@ -0,0 +1,23 @@
+package com.company.university.metrics.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryBudgetPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(QueryBudgetProperties.class);
+
+    @Test
+    void mode_ShouldBeFail_WhenContextStartsFromTestClasspath() {
+        contextRunner.run(context ->
+                assertEquals(QueryBudgetMode.FAIL, context.getBean(QueryBudgetProperties.class).getMode()));
+    }
+}
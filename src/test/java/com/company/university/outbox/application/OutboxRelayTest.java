@@ -0,0 +1,94 @@
+package com.company.university.outbox.application;
+
+import com.company.university.outbox.config.OutboxRelayProperties;
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.domain.DomainEventType;
+import com.company.university.outbox.service.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DomainEventSubscribers subscribers = new DomainEventSubscribers(meterRegistry);
+    private final OutboxRelayProperties properties = new OutboxRelayProperties();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(3);
+        relay = new OutboxRelay(outboxService, subscribers, properties, meterRegistry);
+    }
+
+    private List<DomainEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new DomainEvent(id, DomainEventType.STUDENT_ENROLLED, 1L, id, null, LocalDateTime.now()))
+                .toList();
+    }
+
+    @Test
+    void relay_ShouldDrainFullBatchesAndDispatchInOrder() {
+        when(outboxService.relayBatch(2)).thenReturn(events(1, 2), events(3, 3));
+        List<Long> received = new ArrayList<>();
+        subscribers.subscribe(event -> received.add(event.id()));
+
+        relay.relay();
+
+        assertEquals(List.of(1L, 2L, 3L), received);
+        assertEquals(3.0, meterRegistry.counter(OutboxRelay.RELAYED).count());
+    }
+
+    @Test
+    void relay_ShouldStopAfterMaxBatchesPerRun() {
+        when(outboxService.relayBatch(2)).thenReturn(events(1, 2));
+
+        relay.relay();
+
+        verify(outboxService, times(3)).relayBatch(2);
+    }
+
+    @Test
+    void relay_ShouldNotDispatch_WhenBatchFails() {
+        when(outboxService.relayBatch(2)).thenThrow(new IllegalStateException("Sink failed"));
+        List<DomainEvent> received = new ArrayList<>();
+        subscribers.subscribe(received::add);
+
+        relay.relay();
+
+        assertTrue(received.isEmpty());
+        assertEquals(1.0, meterRegistry.counter(OutboxRelay.RELAY_FAILURES).count());
+    }
+
+    @Test
+    void dispatch_ShouldSkipFailingSubscriberAndStopAfterClose() {
+        List<Long> received = new ArrayList<>();
+        subscribers.subscribe(event -> {
+            throw new IllegalStateException("Subscriber failed");
+        });
+        DomainEventSubscribers.Subscription subscription = subscribers.subscribe(event -> received.add(event.id()));
+
+        subscribers.dispatch(events(1, 2));
+        subscription.close();
+        subscribers.dispatch(events(3, 3));
+
+        assertEquals(List.of(1L, 2L), received);
+        assertEquals(3.0, meterRegistry.counter(DomainEventSubscribers.SUBSCRIBER_FAILURES).count());
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.university.outbox.service;
+
+import com.company.university.lecture.domain.Lecture;
+import com.company.university.lecturer.domain.Lecturer;
+import com.company.university.outbox.application.DomainEventSink;
+import com.company.university.outbox.domain.DomainEvent;
+import com.company.university.outbox.domain.DomainEventType;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.domain.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private DomainEventSink firstSink;
+
+    @Mock
+    private DomainEventSink secondSink;
+
+    private OutboxService outboxService;
+
+    private final DomainEvent event = new DomainEvent(
+            7L, DomainEventType.STUDENT_ENROLLED, 1L, 2L, null, LocalDateTime.of(2025, 10, 1, 8, 0));
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        outboxService = new OutboxService(outboxRepository, List.of(firstSink, secondSink), objectMapper);
+    }
+
+    @Test
+    void lecturesSaved_ShouldAppendLectureSnapshotAsPayload() {
+        Lecture lecture = Lecture.builder()
+                .id(5L)
+                .title("Math")
+                .roomNumber("101")
+                .startDateTime(LocalDateTime.of(2025, 10, 1, 8, 0))
+                .endDateTime(LocalDateTime.of(2025, 10, 1, 9, 30))
+                .lecturer(Lecturer.builder().id(3L).build())
+                .build();
+
+        outboxService.lecturesSaved(DomainEventType.LECTURE_CREATED, List.of(lecture));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).appendAll(events.capture());
+        OutboxEvent appended = events.getValue().getFirst();
+        assertEquals(DomainEventType.LECTURE_CREATED, appended.type());
+        assertEquals(5L, appended.lectureId());
+        assertNull(appended.studentId());
+        assertTrue(appended.payload().contains("\"title\":\"Math\""));
+        assertTrue(appended.payload().contains("\"startDateTime\":\"2025-10-01T08:00:00\""));
+    }
+
+    @Test
+    void relayBatch_ShouldPublishToEverySink() {
+        when(outboxRepository.claimBatch(100)).thenReturn(List.of(event));
+
+        List<DomainEvent> relayed = outboxService.relayBatch(100);
+
+        assertEquals(List.of(event), relayed);
+        verify(firstSink).publish(List.of(event));
+        verify(secondSink).publish(List.of(event));
+    }
+
+    @Test
+    void relayBatch_ShouldNotCallSinks_WhenOutboxIsEmpty() {
+        when(outboxRepository.claimBatch(100)).thenReturn(List.of());
+
+        assertTrue(outboxService.relayBatch(100).isEmpty());
+        verifyNoInteractions(firstSink, secondSink);
+    }
+
+    @Test
+    void relayBatch_ShouldPropagateSinkFailure() {
+        when(outboxRepository.claimBatch(100)).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("Broker unavailable")).when(firstSink).publish(anyList());
+
+        assertThrows(IllegalStateException.class, () -> outboxService.relayBatch(100));
+        verifyNoInteractions(secondSink);
+    }
+}
@@ -0,0 +1,139 @@
+package com.company.university.security.jwt;
+
+import com.company.university.security.config.AuthenticationMode;
+import com.company.university.security.config.JwtConfigurationProperties;
+import com.company.university.security.domain.Role;
+import com.company.university.security.domain.User;
+import com.company.university.security.repository.UserRepository;
+import com.company.university.security.service.UserRolesCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtConfigurationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtConfigurationProperties();
+        properties.setSecret("test-secret-key-that-is-at-least-256-bits-long");
+        properties.setIssuer("test");
+        properties.setExpirationMs(60_000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(properties, meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtService, userRepository, new UserRolesCache(userRepository, properties), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Set<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    private User user(String... roles) {
+        return User.builder()
+                .username("john")
+                .roles(Set.of(roles).stream().map(name -> Role.builder().name(name).build()).collect(Collectors.toSet()))
+                .build();
+    }
+
+    @Test
+    void doFilter_ShouldLoadRolesFromDatabase_WhenDatabaseMode() throws Exception {
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user("ROLE_ADMIN")));
+
+        Authentication authentication = authenticate(jwtService.generateToken("john", Set.of("ROLE_USER")));
+
+        assertEquals(Set.of("ROLE_ADMIN"), authorities(authentication));
+    }
+
+    @Test
+    void doFilter_ShouldNotAuthenticate_WhenUserRemovedInDatabaseMode() throws Exception {
+        when(userRepository.findByUsername("john")).thenReturn(Optional.empty());
+
+        assertNull(authenticate(jwtService.generateToken("john", Set.of("ROLE_USER"))));
+    }
+
+    @Test
+    void doFilter_ShouldRecordAuthenticationOutcomeAndVerifyTokenOnce() throws Exception {
+        properties.setAuthenticationMode(AuthenticationMode.CLAIMS);
+        String token = jwtService.generateToken("john", Set.of("ROLE_USER"));
+
+        authenticate(token);
+        SecurityContextHolder.clearContext();
+        authenticate(token);
+
+        assertEquals(2, meterRegistry.get("university.jwt.authentication")
+                .tags("mode", "CLAIMS", "outcome", "authenticated").timer().count());
+        assertEquals(1, meterRegistry.get("university.jwt.verify").timer().count());
+    }
+
+    @Test
+    void doFilter_ShouldUseTokenRolesWithoutLookup_WhenClaimsMode() throws Exception {
+        properties.setAuthenticationMode(AuthenticationMode.CLAIMS);
+
+        Authentication authentication = authenticate(jwtService.generateToken("john", Set.of("ROLE_USER", "ROLE_ADMIN")));
+
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authorities(authentication));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void doFilter_ShouldLookUpUserOnceAndReloadAfterInvalidation_WhenCachedMode() throws Exception {
+        properties.setAuthenticationMode(AuthenticationMode.CACHED);
+        UserRolesCache cache = new UserRolesCache(userRepository, properties);
+        filter = new JwtAuthenticationFilter(jwtService, userRepository, cache, properties, meterRegistry);
+        when(userRepository.findByUsername("john"))
+                .thenReturn(Optional.of(user("ROLE_ADMIN")))
+                .thenReturn(Optional.of(user("ROLE_USER")));
+        String token = jwtService.generateToken("john", Set.of("ROLE_ADMIN"));
+
+        assertEquals(Set.of("ROLE_ADMIN"), authorities(authenticate(token)));
+        SecurityContextHolder.clearContext();
+        assertEquals(Set.of("ROLE_ADMIN"), authorities(authenticate(token)));
+        verify(userRepository, times(1)).findByUsername("john");
+
+        cache.invalidate("john");
+        SecurityContextHolder.clearContext();
+
+        assertEquals(Set.of("ROLE_USER"), authorities(authenticate(token)));
+        verify(userRepository, times(2)).findByUsername("john");
+    }
+}
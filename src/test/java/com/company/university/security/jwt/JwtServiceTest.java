@@ -0,0 +1,58 @@
+package com.company.university.security.jwt;
+
+import com.company.university.security.config.JwtConfigurationProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfigurationProperties properties = new JwtConfigurationProperties();
+        properties.setSecret("test-secret-key-that-is-at-least-256-bits-long");
+        properties.setIssuer("test");
+        properties.setExpirationMs(60_000);
+
+        jwtService = new JwtService(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void extractAllClaims_ShouldReturnClaimsOfGeneratedToken() {
+        String token = jwtService.generateToken("john", Set.of("ROLE_USER"));
+
+        Claims claims = jwtService.extractAllClaims(token);
+
+        assertEquals("john", claims.getSubject());
+        assertEquals("ROLE_USER", claims.get("roles", String.class));
+        assertTrue(jwtService.isTokenValid(claims, "john"));
+        assertFalse(jwtService.isTokenValid(claims, "jane"));
+    }
+
+    @Test
+    void extractAllClaims_ShouldServeRepeatedTokenFromCache() {
+        String token = jwtService.generateToken("john", Set.of("ROLE_USER"));
+
+        Claims first = jwtService.extractAllClaims(token);
+
+        assertSame(first, jwtService.extractAllClaims(token));
+        assertEquals("john", jwtService.extractUsername(token));
+        assertTrue(jwtService.isTokenValid(token, "john"));
+    }
+
+    @Test
+    void extractAllClaims_ShouldRejectTamperedToken() {
+        String token = jwtService.generateToken("john", Set.of("ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(tampered));
+    }
+}
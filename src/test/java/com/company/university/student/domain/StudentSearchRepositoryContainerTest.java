@@ -0,0 +1,129 @@
+package com.company.university.student.domain;
+
+import com.company.university.search.application.SearchCursor;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ranking and keyset paging against the real search columns and indexes, with more matches than are ranked and
+ * more rows than are read in id order. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class StudentSearchRepositoryContainerTest {
+
+    private static final int PREFIX_MATCHES = 2_500;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static StudentSearchRepository searchRepository;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        searchRepository = new StudentSearchRepository(jdbcTemplate);
+
+        // surnames that only prefix-match first, the one exact match as the last candidate, so it is never among
+        // the first rows read, then prefix matches past the candidates and a rare student past the rows read in order
+        insertPrefixMatches(1, SearchQuery.MAX_CANDIDATES - 1);
+        jdbcTemplate.update("""
+                INSERT INTO student (name, surname, email, student_number, created_at, status, version)
+                VALUES ('Jan', 'Kowalski', 'jan@uni.pl', 'S0', LOCALTIMESTAMP, 'ACTIVE', 0)
+                """);
+        insertPrefixMatches(SearchQuery.MAX_CANDIDATES, PREFIX_MATCHES);
+        jdbcTemplate.update("""
+                INSERT INTO student (name, surname, email, student_number, created_at, status, version)
+                SELECT 'Piotr', 'Nowak', 'piotr' || i || '@uni.pl', 'N' || i, LOCALTIMESTAMP, 'ACTIVE', 0
+                FROM generate_series(1, ?) AS i
+                """, SearchQuery.CANDIDATE_SCAN_ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO student (name, surname, email, student_number, created_at, status, version)
+                VALUES ('Zofia', 'Zielinska', 'zofia@uni.pl', 'Z0', LOCALTIMESTAMP, 'ACTIVE', 0)
+                """);
+    }
+
+    private static void insertPrefixMatches(int from, int to) {
+        jdbcTemplate.update("""
+                INSERT INTO student (name, surname, email, student_number, created_at, status, version)
+                SELECT 'Anna', 'Kowalski' || chr(97 + i % 26) || chr(97 + i / 26 % 26), 'anna' || i || '@uni.pl',
+                       'S' || i, LOCALTIMESTAMP, 'ACTIVE', 0
+                FROM generate_series(?, ?) AS i
+                """, from, to);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void search_ShouldRankExactMatchFirst_WhenItIsTheLastCandidate() {
+        List<SearchHit<Student>> page = searchRepository.search(SearchQuery.parse("kowalski"), null, 10);
+
+        assertEquals("Jan", page.getFirst().item().getName());
+        assertEquals("Kowalski", page.getFirst().item().getSurname());
+    }
+
+    @Test
+    void search_ShouldReturnEveryCandidateExactlyOnce_WhenPagingThroughAllPages() {
+        SearchQuery query = SearchQuery.parse("kowalski");
+        List<SearchHit<Student>> hits = new ArrayList<>();
+        SearchCursor cursor = null;
+        List<SearchHit<Student>> page;
+        do {
+            page = searchRepository.search(query, cursor, SearchQuery.MAX_PAGE_SIZE);
+            hits.addAll(page);
+            if (!page.isEmpty()) {
+                SearchHit<Student> last = page.getLast();
+                cursor = new SearchCursor(last.score(), last.item().getId());
+            }
+        } while (page.size() == SearchQuery.MAX_PAGE_SIZE);
+
+        List<Long> firstMatches = jdbcTemplate.queryForList(
+                "SELECT id FROM student WHERE surname LIKE 'Kowalski%' ORDER BY id LIMIT ?",
+                Long.class, SearchQuery.MAX_CANDIDATES);
+        assertEquals(SearchQuery.MAX_CANDIDATES, hits.size());
+        assertEquals(new HashSet<>(firstMatches), new HashSet<>(hits.stream().map(hit -> hit.item().getId()).toList()));
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).score().compareTo(hits.get(i).score()) >= 0);
+        }
+    }
+
+    @Test
+    void search_ShouldFindMatch_WhenItIsPastRowsReadInIdOrder() {
+        List<SearchHit<Student>> page = searchRepository.search(SearchQuery.parse("zielinska"), null, 10);
+
+        assertEquals(List.of("Zofia"), page.stream().map(hit -> hit.item().getName()).toList());
+    }
+
+    @Test
+    void search_ShouldFindTypoMatch_WhenItIsPastRowsReadInIdOrder() {
+        List<SearchHit<Student>> page = searchRepository.search(SearchQuery.parse("zielinksa"), null, 10);
+
+        assertEquals(List.of("Zofia"), page.stream().map(hit -> hit.item().getName()).toList());
+    }
+}
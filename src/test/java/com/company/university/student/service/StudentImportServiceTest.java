@@ -0,0 +1,126 @@
+package com.company.university.student.service;
+
+import com.company.university.student.application.StudentImportException;
+import com.company.university.student.domain.StagedStudent;
+import com.company.university.student.domain.StudentImportRepository;
+import com.company.university.student.dto.ImportStudentsResponse;
+import com.company.university.student.dto.RejectedStudentRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentImportServiceTest {
+
+    @Mock
+    private StudentImportRepository importRepository;
+
+    @InjectMocks
+    private StudentImportService importService;
+
+    private final List<StagedStudent> staged = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    private void mockCopy() {
+        when(importRepository.copy(any())).thenAnswer(invocation -> {
+            ((Stream<StagedStudent>) invocation.getArgument(0)).forEach(staged::add);
+            return (long) staged.size();
+        });
+    }
+
+    @Test
+    void importStudents_ShouldStageRowsAndReportCounts() {
+        mockCopy();
+        when(importRepository.mergeIntoStudents()).thenReturn(1L);
+        when(importRepository.findRejected(StudentImportService.MAX_REPORTED_REJECTS))
+                .thenReturn(List.of(StagedStudent.rejected(3L, "Email already exists")));
+
+        ImportStudentsResponse response = importService.importStudents(new StringReader("""
+                name,surname,email,dateOfBirth
+                John,Doe,john@example.com,2000-01-01
+                Jane,Doe,john@example.com,2001-02-03
+                """));
+
+        assertEquals(1L, response.imported());
+        assertEquals(1L, response.rejected());
+        assertEquals(List.of(new RejectedStudentRow(3L, "Email already exists")), response.rejects());
+        assertEquals(new StagedStudent(2L, "John", "Doe", "john@example.com", null, LocalDate.of(2000, 1, 1), null),
+                staged.getFirst());
+
+        var order = inOrder(importRepository);
+        order.verify(importRepository).createStagingTable();
+        order.verify(importRepository).copy(any());
+        order.verify(importRepository).rejectDuplicates();
+        order.verify(importRepository).mergeIntoStudents();
+    }
+
+    @Test
+    void importStudents_ShouldStageInvalidRowsAsRejected() {
+        mockCopy();
+
+        importService.importStudents(new StringReader("""
+                email,name,surname,dateOfBirth,studentNumber
+                a@example.com,Ann,Lee,2000-01-01,S-1
+                ,Bob,Lee,2000-01-01,
+                not-an-email,Cid,Lee,2000-01-01,
+                d@example.com,Dan,Lee,01.01.2000,
+                e@example.com,Eve,Lee
+                """));
+
+        assertEquals(5, staged.size());
+        assertEquals("S-1", staged.get(0).studentNumber());
+        assertNull(staged.get(0).rejectReason());
+        assertEquals("Email is required", staged.get(1).rejectReason());
+        assertTrue(staged.get(2).rejectReason().startsWith("Invalid email"));
+        assertTrue(staged.get(3).rejectReason().startsWith("Invalid date of birth"));
+        assertEquals("Expected 5 columns but found 3", staged.get(4).rejectReason());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), staged.stream().map(StagedStudent::line).toList());
+    }
+
+    @Test
+    void importStudents_ShouldParseQuotedFieldsAndKeepPhysicalLineNumbers() {
+        mockCopy();
+
+        importService.importStudents(new StringReader(
+                "\uFEFFname,surname,email,dateOfBirth\r\n"
+                        + "\"Smith, \"\"Jr\"\"\",\"Multi\nLine\",s@example.com,2000-01-01\r\n"
+                        + "\r\n"
+                        + "Tom,Lee,t@example.com,2000-01-01"));
+
+        assertEquals(2, staged.size());
+        assertEquals("Smith, \"Jr\"", staged.get(0).name());
+        assertEquals("Multi\nLine", staged.get(0).surname());
+        assertEquals(5L, staged.get(1).line());
+    }
+
+    @Test
+    void importStudents_ShouldThrow_WhenRequiredColumnIsMissing() {
+        StudentImportException exception = assertThrows(StudentImportException.class,
+                () -> importService.importStudents(new StringReader("name,surname,email\n")));
+
+        assertEquals("Missing CSV columns: dateOfBirth", exception.getMessage());
+        verify(importRepository, never()).copy(any());
+    }
+
+    @Test
+    void importStudents_ShouldThrow_WhenQuotedFieldIsNotTerminated() {
+        assertThrows(StudentImportException.class, () -> importService.importStudents(new StringReader("""
+                name,surname,email,dateOfBirth
+                "John,Doe,john@example.com,2000-01-01
+                """)));
+
+        verify(importRepository, never()).mergeIntoStudents();
+    }
+}
@@ -1,12 +1,25 @@
 package com.company.university.student.service;
 
+import com.company.university.cache.config.ResponseCacheProperties;
+import com.company.university.cache.service.ResponseCacheService;
+import com.company.university.cache.service.SecondLevelCacheService;
 import com.company.university.lecture.application.LectureNotFoundException;
 import com.company.university.lecture.domain.Lecture;
 import com.company.university.lecture.domain.LectureRepository;
+import com.company.university.outbox.domain.OutboxEvent;
+import com.company.university.outbox.service.OutboxService;
+import com.company.university.search.application.IncorrectSearchQueryException;
+import com.company.university.search.application.SearchCursor;
+import com.company.university.search.application.SearchQuery;
+import com.company.university.search.domain.SearchHit;
 import com.company.university.student.application.*;
+import com.company.university.student.domain.EnrollmentCandidate;
 import com.company.university.student.domain.Student;
+import com.company.university.student.domain.StudentEnrollmentRepository;
 import com.company.university.student.domain.StudentRepository;
+import com.company.university.student.domain.StudentSearchRepository;
 import com.company.university.student.dto.*;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +27,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static com.company.university.outbox.domain.DomainEventType.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +51,24 @@ class StudentServiceTest {
     @Mock
     private StudentValidator validator;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private SecondLevelCacheService secondLevelCache;
+
+    @Mock
+    private StudentSearchRepository searchRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private ResponseCacheService responseCache = new ResponseCacheService(new ResponseCacheProperties());
+
     @InjectMocks
     private StudentService studentService;
 
@@ -57,6 +92,11 @@ class StudentServiceTest {
         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
     }
 
+    private void mockStudentResponseFound() {
+        when(studentRepository.findResponseById(1L))
+                .thenAnswer(invocation -> Optional.of(StudentMapper.findStudentResponse(student)));
+    }
+
     private void mockLectureFound() {
         when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
     }
@@ -73,6 +113,50 @@ class StudentServiceTest {
         verify(studentRepository, times(1)).save(any(Student.class));
     }
 
+    @Test
+    void createStudents_ShouldSaveInChunksAndClearPersistenceContext() {
+        List<CreateStudentRequest> requests = Stream.generate(() -> CreateStudentRequest.builder().name("Jane").build())
+                .limit(2_500)
+                .toList();
+        long[] nextId = {1};
+        when(studentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            students.forEach(s -> s.setId(nextId[0]++));
+            return students;
+        });
+
+        CreateStudentsResponse response = studentService.createStudents(new CreateStudentsRequest(requests));
+
+        assertEquals(2_500, response.created());
+        assertEquals(List.of(1L, 2L, 2_500L), List.of(response.ids().get(0), response.ids().get(1), response.ids().get(2_499)));
+        verify(studentRepository, times(3)).saveAll(anyList());
+        verify(studentRepository, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void createStudents_ShouldThrowException_WhenRequestIsEmptyOrTooLarge() {
+        List<CreateStudentRequest> tooMany = Stream.generate(() -> CreateStudentRequest.builder().build())
+                .limit(10_001)
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> studentService.createStudents(null));
+        assertThrows(IllegalArgumentException.class, () -> studentService.createStudents(new CreateStudentsRequest(null)));
+        assertThrows(IllegalArgumentException.class, () -> studentService.createStudents(new CreateStudentsRequest(List.of())));
+        assertThrows(IllegalArgumentException.class, () -> studentService.createStudents(new CreateStudentsRequest(tooMany)));
+        verify(studentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createStudents_ShouldThrowException_WhenStudentIsNull() {
+        List<CreateStudentRequest> requests = new ArrayList<>();
+        requests.add(CreateStudentRequest.builder().name("Jane").build());
+        requests.add(null);
+
+        assertThrows(IllegalArgumentException.class, () -> studentService.createStudents(new CreateStudentsRequest(requests)));
+        verify(studentRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void createStudent_ShouldThrowException_WhenRequestIsNull() {
         assertThrows(IllegalArgumentException.class, () -> studentService.createStudent(null));
@@ -95,18 +179,18 @@ class StudentServiceTest {
 
     @Test
     void getStudents_ShouldReturnAllStudents() {
-        when(studentRepository.findAll()).thenReturn(List.of(student));
+        when(studentRepository.findAllResponses()).thenReturn(List.of(StudentMapper.findStudentResponse(student)));
 
         List<FindStudentResponse> students = studentService.getStudents();
 
         assertEquals(1, students.size());
         assertEquals(student.getId(), students.getFirst().getId());
-        verify(studentRepository, times(1)).findAll();
+        verify(studentRepository, times(1)).findAllResponses();
     }
 
     @Test
     void getStudent_ShouldReturnStudent_WhenExists() {
-        mockStudentFound();
+        mockStudentResponseFound();
 
         FindStudentResponse response = studentService.getStudent(1L);
 
@@ -114,9 +198,35 @@ class StudentServiceTest {
         assertEquals(student.getId(), response.getId());
     }
 
+    @Test
+    void getStudent_ShouldServeRepeatedReadsFromCache_UntilStudentIsUpdated() {
+        mockStudentResponseFound();
+        mockStudentFound();
+        when(studentRepository.saveAndFlush(any(Student.class))).thenReturn(student);
+
+        studentService.getStudent(1L);
+        studentService.getStudent(1L);
+        verify(studentRepository, times(1)).findResponseById(1L);
+
+        studentService.updateStudent(1L, UpdateStudentRequest.builder().name("Jane").build());
+        FindStudentResponse response = studentService.getStudent(1L);
+
+        assertEquals("Jane", response.getName());
+        verify(studentRepository, times(2)).findResponseById(1L);
+    }
+
+    @Test
+    void getStudent_ShouldNotCacheMissingStudent() {
+        when(studentRepository.findResponseById(1L))
+                .thenReturn(Optional.empty(), Optional.of(StudentMapper.findStudentResponse(student)));
+
+        assertThrows(StudentNotFoundException.class, () -> studentService.getStudent(1L));
+        assertEquals(student.getId(), studentService.getStudent(1L).getId());
+    }
+
     @Test
     void getStudent_ShouldThrowException_WhenNotFound() {
-        when(studentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(studentRepository.findResponseById(1L)).thenReturn(Optional.empty());
 
         assertThrows(StudentNotFoundException.class, () -> studentService.getStudent(1L));
     }
@@ -125,14 +235,25 @@ class StudentServiceTest {
     void updateStudent_ShouldUpdateAndReturnStudent() {
         UpdateStudentRequest request = UpdateStudentRequest.builder().name("Jane Doe").email("jane@example.com").build();
         mockStudentFound();
-        when(studentRepository.save(any(Student.class))).thenReturn(student);
+        when(studentRepository.saveAndFlush(any(Student.class))).thenReturn(student);
 
         UpdateStudentResponse response = studentService.updateStudent(1L, request);
 
         assertNotNull(response);
         assertEquals("Jane Doe", student.getName());
         assertEquals("jane@example.com", student.getEmail());
-        verify(studentRepository).save(student);
+        verify(studentRepository).saveAndFlush(student);
+    }
+
+    @Test
+    void updateStudent_ShouldThrowOptimisticLockingFailure_WhenVersionDoesNotMatch() {
+        UpdateStudentRequest request = UpdateStudentRequest.builder().name("Jane Doe").build();
+        student.setVersion(3L);
+        mockStudentFound();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> studentService.updateStudent(1L, request, 2L));
+        assertNotEquals("Jane Doe", student.getName());
+        verify(studentRepository, never()).saveAndFlush(any(Student.class));
     }
 
     @Test
@@ -164,6 +285,20 @@ class StudentServiceTest {
         verify(studentRepository).deleteById(1L);
     }
 
+    @Test
+    void deleteStudent_ShouldFreeSeatsOfEnrolledLectures() {
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.deleteAllOfStudent(1L)).thenReturn(List.of(1L));
+        when(lectureRepository.findAllById(List.of(1L))).thenReturn(List.of(lecture));
+        when(enrollmentRepository.pollWaitlist(1L)).thenReturn(Optional.empty());
+
+        studentService.deleteStudent(1L);
+
+        verify(enrollmentRepository).releaseSeats(1L, 1);
+        verify(studentRepository).deleteById(1L);
+        verify(secondLevelCache).evictLectures(List.of(1L));
+    }
+
     @Test
     void deleteStudent_ShouldThrowException_WhenNotExists() {
         when(studentRepository.existsById(1L)).thenReturn(false);
@@ -180,20 +315,63 @@ class StudentServiceTest {
     }
 
     @Test
-    void addLectureToStudent_ShouldAddLecture_WhenNoConflict() {
-        mockStudentFound();
+    void addLectureToStudent_ShouldTakeSeatAndEnroll_WhenNoConflict() {
         mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.reserveSeat(1L)).thenReturn(true);
+        when(enrollmentRepository.insert(1L, 1L)).thenReturn(true);
+
+        EnrollmentStatus status = studentService.addLectureToStudent(1L, 1L);
+
+        assertEquals(EnrollmentStatus.ENROLLED, status);
+        verify(validator).validateScheduleConflict(1L, lecture);
+        verify(secondLevelCache).evictStudentLectures(List.of(1L));
+        verify(secondLevelCache).evictLectures(List.of(1L));
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
+    @Test
+    void addLectureToStudent_ShouldWaitlistStudent_WhenLectureIsFull() {
+        mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.reserveSeat(1L)).thenReturn(false);
+
+        EnrollmentStatus status = studentService.addLectureToStudent(1L, 1L);
+
+        assertEquals(EnrollmentStatus.WAITLISTED, status);
+        verify(enrollmentRepository).addToWaitlist(1L, 1L);
+        verify(enrollmentRepository, never()).insert(anyLong(), anyLong());
+    }
+
+    @Test
+    void addLectureToStudent_ShouldAppendEvent_WhenStudentIsWaitlisted() {
+        mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.reserveSeat(1L)).thenReturn(false);
 
         studentService.addLectureToStudent(1L, 1L);
 
-        assertTrue(student.getLectures().contains(lecture));
-        verify(studentRepository).save(student);
+        verify(outboxService).append(OutboxEvent.enrollment(STUDENT_WAITLISTED, 1L, 1L));
+        verifyNoMoreInteractions(outboxService);
+    }
+
+    @Test
+    void addLectureToStudent_ShouldGiveSeatBack_WhenEnrolledConcurrently() {
+        mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.reserveSeat(1L)).thenReturn(true);
+        when(enrollmentRepository.insert(1L, 1L)).thenReturn(false);
+
+        EnrollmentStatus status = studentService.addLectureToStudent(1L, 1L);
+
+        assertEquals(EnrollmentStatus.ALREADY_ENROLLED, status);
+        verify(enrollmentRepository).releaseSeats(1L, 1);
     }
 
     @Test
     void addLectureToStudent_ShouldThrowConflictException() {
-        mockStudentFound();
         mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
 
         doThrow(new StudentScheduleConflictException("Student has a schedule conflict!"))
                 .when(validator).validateScheduleConflict(1L, lecture);
@@ -201,6 +379,7 @@ class StudentServiceTest {
         assertThrows(StudentScheduleConflictException.class, () ->
                 studentService.addLectureToStudent(1L, 1L)
         );
+        verify(enrollmentRepository, never()).reserveSeat(anyLong());
     }
 
     @Test
@@ -208,6 +387,11 @@ class StudentServiceTest {
         when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(LectureNotFoundException.class, () -> studentService.addLectureToStudent(1L, 1L));
+
+        mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(StudentNotFoundException.class, () -> studentService.addLectureToStudent(1L, 1L));
     }
 
     @Test
@@ -218,52 +402,175 @@ class StudentServiceTest {
     }
 
     @Test
-    void addLectureToStudent_ShouldNotDuplicateLecture_WhenLectureAlreadyAdded() {
-        mockStudentFound();
+    void addLectureToStudent_ShouldNotTakeSeat_WhenLectureAlreadyAdded() {
         mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.exists(1L, 1L)).thenReturn(true);
 
-        student.addLecture(lecture);
+        EnrollmentStatus status = studentService.addLectureToStudent(1L, 1L);
 
-        studentService.addLectureToStudent(1L, 1L);
+        assertEquals(EnrollmentStatus.ALREADY_ENROLLED, status);
+        verify(enrollmentRepository, never()).reserveSeat(anyLong());
+        verify(enrollmentRepository, never()).insert(anyLong(), anyLong());
+    }
 
-        assertEquals(1, student.getLectures().size());
-        verify(studentRepository).save(student);
+    private EnrollmentCandidate candidate(Long studentId, Long lectureId, int startHour, boolean conflicting) {
+        LocalDateTime start = LocalDateTime.of(2025, 11, 24, startHour, 0);
+        return new EnrollmentCandidate(studentId, lectureId, true, true, false, conflicting, start, start.plusHours(2));
     }
 
     @Test
-    void removeLectureFromStudent_ShouldRemoveLecture_WhenExists() {
-        student.addLecture(lecture);
-        mockStudentFound();
+    void enrollStudents_ShouldReportPerPairStatusAndInsertAcceptedPairs() {
+        EnrollmentCandidate free = candidate(1L, 10L, 8, false);
+        EnrollmentCandidate conflictingInDatabase = candidate(1L, 11L, 12, true);
+        EnrollmentCandidate overlappingInBatch = candidate(1L, 12L, 9, false);
+        EnrollmentCandidate missingLecture = new EnrollmentCandidate(2L, 13L, true, false, false, false, null, null);
+        when(enrollmentRepository.findCandidates(List.of(1L, 1L, 1L, 2L, 1L), List.of(10L, 11L, 12L, 13L, 10L)))
+                .thenReturn(List.of(free, conflictingInDatabase, overlappingInBatch, missingLecture, free));
+        when(enrollmentRepository.reserveSeats(10L, 1)).thenReturn(1);
+        when(enrollmentRepository.insertAll(List.of(free))).thenReturn(List.of(free));
+
+        EnrollStudentsResponse response = studentService.enrollStudents(new EnrollStudentsRequest(List.of(
+                new EnrollStudentsRequest.Enrollment(1L, 10L),
+                new EnrollStudentsRequest.Enrollment(1L, 11L),
+                new EnrollStudentsRequest.Enrollment(1L, 12L),
+                new EnrollStudentsRequest.Enrollment(2L, 13L),
+                new EnrollStudentsRequest.Enrollment(1L, 10L)
+        )));
+
+        assertEquals(List.of(
+                        EnrollmentStatus.ENROLLED,
+                        EnrollmentStatus.SCHEDULE_CONFLICT,
+                        EnrollmentStatus.SCHEDULE_CONFLICT,
+                        EnrollmentStatus.LECTURE_NOT_FOUND,
+                        EnrollmentStatus.ALREADY_ENROLLED),
+                response.results().stream().map(EnrollStudentsResponse.EnrollmentResult::status).toList());
+        assertEquals(1, response.enrolled());
+        assertEquals(4, response.rejected());
+        verify(enrollmentRepository).insertAll(List.of(free));
+        verify(secondLevelCache).evictStudentLectures(Set.of(1L));
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
+    @Test
+    void enrollStudents_ShouldWaitlistPairs_WhenLectureRunsOutOfSeats() {
+        EnrollmentCandidate first = candidate(1L, 10L, 8, false);
+        EnrollmentCandidate second = candidate(2L, 10L, 8, false);
+        EnrollmentCandidate third = candidate(3L, 10L, 8, false);
+        when(enrollmentRepository.findCandidates(List.of(1L, 2L, 3L), List.of(10L, 10L, 10L)))
+                .thenReturn(List.of(first, second, third));
+        when(enrollmentRepository.reserveSeats(10L, 3)).thenReturn(2);
+        when(enrollmentRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EnrollStudentsResponse response = studentService.enrollStudents(new EnrollStudentsRequest(List.of(
+                new EnrollStudentsRequest.Enrollment(1L, 10L),
+                new EnrollStudentsRequest.Enrollment(2L, 10L),
+                new EnrollStudentsRequest.Enrollment(3L, 10L)
+        )));
+
+        assertEquals(List.of(
+                        EnrollmentStatus.ENROLLED,
+                        EnrollmentStatus.ENROLLED,
+                        EnrollmentStatus.WAITLISTED),
+                response.results().stream().map(EnrollStudentsResponse.EnrollmentResult::status).toList());
+        assertEquals(2, response.enrolled());
+        verify(enrollmentRepository).addAllToWaitlist(List.of(third));
+        verify(enrollmentRepository, never()).releaseSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void enrollStudents_ShouldNotInsert_WhenNothingAccepted() {
+        EnrollmentCandidate missingStudent = new EnrollmentCandidate(1L, 10L, false, true, false, false, null, null);
+        when(enrollmentRepository.findCandidates(List.of(1L), List.of(10L))).thenReturn(List.of(missingStudent));
+
+        EnrollStudentsResponse response = studentService.enrollStudents(
+                new EnrollStudentsRequest(List.of(new EnrollStudentsRequest.Enrollment(1L, 10L))));
+
+        assertEquals(EnrollmentStatus.STUDENT_NOT_FOUND, response.results().getFirst().status());
+        verify(enrollmentRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void enrollStudents_ShouldThrowException_WhenRequestEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> studentService.enrollStudents(null));
+        assertThrows(IllegalArgumentException.class, () -> studentService.enrollStudents(new EnrollStudentsRequest(List.of())));
+    }
+
+    @Test
+    void removeLectureFromStudent_ShouldGiveSeatBack_WhenWaitlistIsEmpty() {
         mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.delete(1L, 1L)).thenReturn(true);
+        when(enrollmentRepository.pollWaitlist(1L)).thenReturn(Optional.empty());
 
         studentService.removeLectureFromStudent(1L, 1L);
 
-        assertFalse(student.getLectures().contains(lecture));
-        verify(studentRepository).save(student);
+        verify(enrollmentRepository).releaseSeats(1L, 1);
+        verify(secondLevelCache).evictStudentLectures(List.of(1L));
+        verify(studentRepository, never()).save(any(Student.class));
     }
 
     @Test
-    void removeLectureFromStudent_ShouldThrowException_WhenStudentOrLectureNotFound() {
-        when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
+    void removeLectureFromStudent_ShouldPromoteFirstEligibleWaitlistedStudent() {
+        mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.delete(1L, 1L)).thenReturn(true);
+        when(enrollmentRepository.pollWaitlist(1L)).thenReturn(Optional.of(2L), Optional.of(3L));
+        when(lectureRepository.existsStudentScheduleConflict(2L, lecture.getStartDateTime(), lecture.getEndDateTime()))
+                .thenReturn(true);
+        when(lectureRepository.existsStudentScheduleConflict(3L, lecture.getStartDateTime(), lecture.getEndDateTime()))
+                .thenReturn(false);
+        when(enrollmentRepository.insert(3L, 1L)).thenReturn(true);
 
-        assertThrows(LectureNotFoundException.class, () -> studentService.removeLectureFromStudent(1L, 1L));
+        studentService.removeLectureFromStudent(1L, 1L);
+
+        verify(enrollmentRepository, never()).insert(2L, 1L);
+        verify(enrollmentRepository, never()).releaseSeats(anyLong(), anyInt());
+        verify(secondLevelCache).evictStudentLectures(List.of(3L));
     }
 
     @Test
-    void removeLectureFromStudent_ShouldThrowException_WhenIdsAreNull() {
-        assertThrows(LectureNotFoundException.class, () -> studentService.removeLectureFromStudent(null, 1L));
-        assertThrows(StudentNotFoundException.class, () -> studentService.removeLectureFromStudent(1L, null));
+    void removeLectureFromStudent_ShouldAppendEventsInOrder_WhenWaitlistedStudentIsPromoted() {
+        mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.delete(1L, 1L)).thenReturn(true);
+        when(enrollmentRepository.pollWaitlist(1L)).thenReturn(Optional.of(2L), Optional.of(3L));
+        when(lectureRepository.existsStudentScheduleConflict(2L, lecture.getStartDateTime(), lecture.getEndDateTime()))
+                .thenReturn(true);
+        when(enrollmentRepository.insert(3L, 1L)).thenReturn(true);
+
+        studentService.removeLectureFromStudent(1L, 1L);
+
+        InOrder order = inOrder(outboxService);
+        order.verify(outboxService).append(OutboxEvent.enrollment(STUDENT_UNENROLLED, 1L, 1L));
+        order.verify(outboxService).append(OutboxEvent.enrollment(STUDENT_LEFT_WAITLIST, 2L, 1L));
+        order.verify(outboxService).append(OutboxEvent.enrollment(STUDENT_ENROLLED, 3L, 1L));
     }
 
     @Test
-    void removeLectureFromStudent_ShouldHandleNonExistentLectureGracefully() {
-        mockStudentFound();
+    void removeLectureFromStudent_ShouldLeaveWaitlist_WhenStudentNotEnrolled() {
         mockLectureFound();
+        when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.delete(1L, 1L)).thenReturn(false);
 
         studentService.removeLectureFromStudent(1L, 1L);
 
-        assertTrue(student.getLectures().isEmpty());
-        verify(studentRepository).save(student);
+        verify(enrollmentRepository).removeFromWaitlist(1L, 1L);
+        verify(enrollmentRepository, never()).pollWaitlist(anyLong());
+        verify(enrollmentRepository, never()).releaseSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void removeLectureFromStudent_ShouldThrowException_WhenStudentOrLectureNotFound() {
+        when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(LectureNotFoundException.class, () -> studentService.removeLectureFromStudent(1L, 1L));
+    }
+
+    @Test
+    void removeLectureFromStudent_ShouldThrowException_WhenIdsAreNull() {
+        assertThrows(LectureNotFoundException.class, () -> studentService.removeLectureFromStudent(null, 1L));
+        assertThrows(StudentNotFoundException.class, () -> studentService.removeLectureFromStudent(1L, null));
     }
 
     @Test
@@ -307,8 +614,8 @@ class StudentServiceTest {
     void findAllWithLectures_WithPagination_ShouldReturnPage() {
         student.addLecture(lecture);
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Student> page = new PageImpl<>(List.of(student));
-        when(studentRepository.findAllWithLectures(pageable)).thenReturn(page);
+        when(studentRepository.findIds(pageable)).thenReturn(new PageImpl<>(List.of(1L)));
+        when(studentRepository.findAllWithLecturesByIdIn(List.of(1L))).thenReturn(List.of(student));
 
         Page<FindStudentWithLecturesResponse> result = studentService.findAllWithLectures(pageable);
 
@@ -316,14 +623,51 @@ class StudentServiceTest {
         assertEquals(1, result.getContent().getFirst().lectures().size());
     }
 
+    @Test
+    void findAllWithLectures_WithPagination_ShouldKeepIdPageOrder() {
+        Student second = Student.builder().id(2L).name("Jane").build();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+        when(studentRepository.findIds(pageable)).thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        when(studentRepository.findAllWithLecturesByIdIn(List.of(2L, 1L))).thenReturn(List.of(student, second));
+
+        Page<FindStudentWithLecturesResponse> result = studentService.findAllWithLectures(pageable);
+
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(FindStudentWithLecturesResponse::id).toList());
+    }
+
     @Test
     void findAllWithLectures_ShouldReturnEmptyPage_WhenNoStudents() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(studentRepository.findAllWithLectures(pageable)).thenReturn(Page.empty());
+        when(studentRepository.findIds(pageable)).thenReturn(Page.empty());
 
         Page<FindStudentWithLecturesResponse> result = studentService.findAllWithLectures(pageable);
 
         assertTrue(result.isEmpty());
+        verify(studentRepository, never()).findAllWithLecturesByIdIn(anyCollection());
+    }
+
+    @Test
+    void streamAllWithLectures_ShouldFetchLecturesPerBatchAndClearContext() {
+        student.addLecture(lecture);
+        when(studentRepository.streamAll()).thenReturn(Stream.of(student));
+        List<FindStudentWithLecturesResponse> exported = new ArrayList<>();
+
+        studentService.streamAllWithLectures(exported::add);
+
+        assertEquals(1, exported.size());
+        assertEquals(1, exported.getFirst().lectures().size());
+        verify(studentRepository).findAllWithLecturesByIdIn(List.of(1L));
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void streamAllWithLectures_ShouldNotQueryLectures_WhenNoStudents() {
+        when(studentRepository.streamAll()).thenReturn(Stream.empty());
+
+        studentService.streamAllWithLectures(response -> fail("Nothing should be exported"));
+
+        verify(studentRepository, never()).findAllWithLecturesByIdIn(anyCollection());
+        verify(entityManager, never()).clear();
     }
 
     @ParameterizedTest(name = "sortBy={0}, direction={1}")
@@ -336,8 +680,8 @@ class StudentServiceTest {
             "surname, desc"
     })
     void getStudents_ShouldReturnPage_WhenSortByExistentField(String sortBy, String direction) {
-        when(studentRepository.findAll(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(student)));
+        when(studentRepository.findResponsePage(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(StudentMapper.findStudentResponse(student))));
 
         Page<FindStudentResponse> result = studentService.getStudents(0, 10, sortBy, direction);
 
@@ -345,7 +689,7 @@ class StudentServiceTest {
         assertEquals(1, result.getTotalElements());
 
         ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
-        verify(studentRepository).findAll(captor.capture());
+        verify(studentRepository).findResponsePage(captor.capture());
         Pageable captured = captor.getValue();
         assertEquals(sortBy, captured.getSort().iterator().next().getProperty());
         assertEquals(direction.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
@@ -378,6 +722,44 @@ class StudentServiceTest {
         );
     }
 
+    @Test
+    void getStudentsByCursor_ShouldReturnFirstPageWithNextCursor_WhenMoreStudentsExist() {
+        FindStudentResponse second = FindStudentResponse.builder().id(2L).name("Jane").build();
+        when(studentRepository.findResponses(any(Pageable.class)))
+                .thenReturn(List.of(StudentMapper.findStudentResponse(student), second));
+
+        FindStudentsCursorResponse result = studentService.getStudents(null, 1, "name", "asc");
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(studentRepository).findResponses(captor.capture());
+        assertEquals(2, captor.getValue().getPageSize());
+        assertEquals(List.of("name", "id"), captor.getValue().getSort().stream().map(Sort.Order::getProperty).toList());
+        verify(studentRepository, never()).count();
+    }
+
+    @Test
+    void getStudentsByCursor_ShouldSeekPastCursor_WhenCursorGiven() {
+        String cursor = StudentCursor.of("name", "desc", StudentMapper.findStudentResponse(student)).encode();
+        when(studentRepository.findNextByNameDesc(eq("John Doe"), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        FindStudentsCursorResponse result = studentService.getStudents(cursor, 10, "id", "asc");
+
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(validator).validateSizeAndSorting(10, "name", "desc");
+    }
+
+    @Test
+    void getStudentsByCursor_ShouldThrowException_WhenCursorInvalid() {
+        assertThrows(IncorrectCursorException.class, () -> studentService.getStudents("not-a-cursor", 10, "id", "asc"));
+    }
+
     @Test
     void studentMapper_ShouldHandleNullFields() {
         Student studentWithNulls = new Student();
@@ -394,4 +776,60 @@ class StudentServiceTest {
         assertNull(response.getSurname());
         assertNull(response.getEmail());
     }
+
+    private SearchHit<Student> hit(long id, String score) {
+        return new SearchHit<>(Student.builder().id(id).name("Jan").surname("Kowalski").build(), new BigDecimal(score));
+    }
+
+    @Test
+    void searchStudents_ShouldReturnNextCursor_WhenMoreHitsThanPageSize() {
+        when(searchRepository.search(any(SearchQuery.class), isNull(), eq(3)))
+                .thenReturn(List.of(hit(7L, "0.9"), hit(3L, "0.5"), hit(9L, "0.5")));
+
+        FindStudentsCursorResponse result = studentService.searchStudents("  jan kowal ", null, 2);
+
+        assertEquals(List.of(7L, 3L), result.getContent().stream().map(FindStudentResponse::getId).toList());
+        assertTrue(result.isHasNext());
+        assertEquals(new SearchCursor(new BigDecimal("0.5"), 3L), SearchCursor.decode(result.getNextCursor()));
+
+        ArgumentCaptor<SearchQuery> query = ArgumentCaptor.forClass(SearchQuery.class);
+        verify(searchRepository).search(query.capture(), isNull(), eq(3));
+        assertEquals("jan kowal", query.getValue().text());
+        assertEquals("jan:* & kowal:*", query.getValue().tsQuery());
+    }
+
+    @Test
+    void searchStudents_ShouldSeekPastCursor() {
+        SearchCursor cursor = new SearchCursor(new BigDecimal("0.500000"), 3L);
+        when(searchRepository.search(any(SearchQuery.class), eq(cursor), eq(11))).thenReturn(List.of(hit(9L, "0.5")));
+
+        FindStudentsCursorResponse result = studentService.searchStudents("kowal", cursor.encode(), 10);
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void searchStudents_ShouldStripTsQueryOperators() {
+        when(searchRepository.search(any(SearchQuery.class), isNull(), eq(11))).thenReturn(List.of());
+
+        studentService.searchStudents("o'brien & (x) !:*", null, 10);
+
+        ArgumentCaptor<SearchQuery> query = ArgumentCaptor.forClass(SearchQuery.class);
+        verify(searchRepository).search(query.capture(), isNull(), eq(11));
+        assertEquals("obrien:* & x:*", query.getValue().tsQuery());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"ab, 10", "kowalski, 0", "kowalski, 101"})
+    void searchStudents_ShouldThrowException_WhenQueryOrSizeInvalid(String query, int size) {
+        assertThrows(IncorrectSearchQueryException.class, () -> studentService.searchStudents(query, null, size));
+        verifyNoInteractions(searchRepository);
+    }
+
+    @Test
+    void searchStudents_ShouldThrowException_WhenCursorInvalid() {
+        assertThrows(IncorrectSearchQueryException.class, () -> studentService.searchStudents("kowalski", "not-a-cursor", 10));
+    }
 }
@@ -0,0 +1,102 @@
+package com.company.university.timetable.service;
+
+import com.company.university.lecturer.application.LecturerNotFoundException;
+import com.company.university.lecturer.domain.LecturerRepository;
+import com.company.university.student.application.StudentNotFoundException;
+import com.company.university.student.domain.StudentRepository;
+import com.company.university.timetable.application.IncorrectWeekException;
+import com.company.university.timetable.domain.TimetableEntry;
+import com.company.university.timetable.domain.TimetableRepository;
+import com.company.university.timetable.dto.TimetableResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimetableServiceTest {
+
+    @Mock
+    private TimetableRepository timetableRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private LecturerRepository lecturerRepository;
+
+    @InjectMocks
+    private TimetableService timetableService;
+
+    private final TimetableEntry entry = new TimetableEntry(7L, "Algebra", "A-101", 3L,
+            LocalDateTime.of(2025, 11, 25, 10, 0), LocalDateTime.of(2025, 11, 25, 12, 0));
+
+    @Test
+    void getStudentTimetable_ShouldReadWeekByItsMonday() {
+        when(timetableRepository.findStudentWeek(1L, LocalDate.of(2025, 11, 24))).thenReturn(List.of(entry));
+
+        TimetableResponse response = timetableService.getStudentTimetable(1L, "2025-W48");
+
+        assertEquals("2025-W48", response.getWeek());
+        assertEquals(LocalDate.of(2025, 11, 24), response.getWeekStart());
+        assertEquals(1, response.getEntries().size());
+        assertEquals(7L, response.getEntries().getFirst().getLectureId());
+        assertEquals("A-101", response.getEntries().getFirst().getRoomNumber());
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void getStudentTimetable_ShouldReturnEmptyWeek_WhenStudentExists() {
+        when(timetableRepository.findStudentWeek(1L, LocalDate.of(2026, 12, 28))).thenReturn(List.of());
+        when(studentRepository.existsById(1L)).thenReturn(true);
+
+        TimetableResponse response = timetableService.getStudentTimetable(1L, "2026-W53");
+
+        assertEquals("2026-W53", response.getWeek());
+        assertTrue(response.getEntries().isEmpty());
+    }
+
+    @Test
+    void getStudentTimetable_ShouldThrow_WhenStudentDoesNotExist() {
+        when(timetableRepository.findStudentWeek(eq(1L), any())).thenReturn(List.of());
+        when(studentRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(StudentNotFoundException.class, () -> timetableService.getStudentTimetable(1L, null));
+    }
+
+    @Test
+    void getRoomTimetable_ShouldReadHalfOpenWeekRange() {
+        when(timetableRepository.findRoomWeek("A-101",
+                LocalDateTime.of(2025, 11, 24, 0, 0), LocalDateTime.of(2025, 12, 1, 0, 0)))
+                .thenReturn(List.of(entry));
+
+        TimetableResponse response = timetableService.getRoomTimetable("A-101", "2025-W48");
+
+        assertEquals(1, response.getEntries().size());
+    }
+
+    @Test
+    void getLecturerTimetable_ShouldThrow_WhenLecturerDoesNotExist() {
+        when(timetableRepository.findLecturerWeek(eq(3L), any(), any())).thenReturn(List.of());
+        when(lecturerRepository.existsById(3L)).thenReturn(false);
+
+        assertThrows(LecturerNotFoundException.class, () -> timetableService.getLecturerTimetable(3L, "2025-W48"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2025-48", "2025-W4", "2025-W54", "2025-W00", "week"})
+    void getRoomTimetable_ShouldThrow_WhenWeekIsInvalid(String week) {
+        assertThrows(IncorrectWeekException.class, () -> timetableService.getRoomTimetable("A-101", week));
+        verifyNoInteractions(timetableRepository);
+    }
+}
@@ -0,0 +1,96 @@
+package com.company.university.web.api;
+
+import com.company.university.student.dto.EnrollStudentsRequest;
+import com.company.university.student.dto.EnrollmentStatus;
+import com.company.university.student.service.StudentImportService;
+import com.company.university.student.service.StudentService;
+import com.company.university.web.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class StudentControllerTest {
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private StudentImportService studentImportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new StudentController(studentService, studentImportService, new ObjectMapper()))
+                .setControllerAdvice(new GlobalExceptionHandler(new StaticMessageSource()))
+                .build();
+    }
+
+    @Test
+    void enrollStudents_ShouldReturnBadRequest_WhenEnrollmentsAreEmpty() throws Exception {
+        mockMvc.perform(post("/api/students/enrollments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enrollments\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("enrollments"));
+
+        verify(studentService, never()).enrollStudents(any(EnrollStudentsRequest.class));
+    }
+
+    @Test
+    void enrollStudents_ShouldReturnBadRequest_WhenEnrollmentIsIncomplete() throws Exception {
+        mockMvc.perform(post("/api/students/enrollments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enrollments\": [{\"studentId\": 1}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("enrollments[0].lectureId"));
+
+        verify(studentService, never()).enrollStudents(any(EnrollStudentsRequest.class));
+    }
+
+    @Test
+    void addLectureToStudent_ShouldReturnNoContent_WhenStudentIsEnrolled() throws Exception {
+        when(studentService.addLectureToStudent(1L, 2L)).thenReturn(EnrollmentStatus.ENROLLED);
+
+        mockMvc.perform(post("/api/students/1/lectures/2"))
+                .andExpect(status().isNoContent())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void addLectureToStudent_ShouldReturnNoContent_WhenStudentIsAlreadyEnrolled() throws Exception {
+        when(studentService.addLectureToStudent(1L, 2L)).thenReturn(EnrollmentStatus.ALREADY_ENROLLED);
+
+        mockMvc.perform(post("/api/students/1/lectures/2"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void addLectureToStudent_ShouldReturnAcceptedWithStatus_WhenStudentIsWaitlisted() throws Exception {
+        when(studentService.addLectureToStudent(1L, 2L)).thenReturn(EnrollmentStatus.WAITLISTED);
+
+        mockMvc.perform(post("/api/students/1/lectures/2"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.studentId").value(1))
+                .andExpect(jsonPath("$.lectureId").value(2))
+                .andExpect(jsonPath("$.status").value("WAITLISTED"));
+    }
+}